@@ -0,0 +1,295 @@
+package io.jenkins.plugins.casc.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a configurator for every public class with a {@code DataBoundConstructor}, which invokes the constructor
+ * and {@code DataBoundSetter}s directly rather than through reflection.
+ * <p>
+ * Generated configurators extend {@code DataBoundConfigurator}, which still discovers attributes and constructor
+ * parameters by reflection, once per class, and handles defaults and description of existing instances. They are
+ * named after the class, with {@code _CascConfigurator} appended, and picked by the configurator registry ahead of the
+ * reflective {@code DataBoundConfigurator}. Setters which are overloaded, or take an array or a collection, keep going
+ * through {@code DataBoundConfigurator}.
+ * <p>
+ * Annotation names are used as strings so that the processor does not depend on Stapler nor on this plugin.
+ */
+@SupportedAnnotationTypes(ConfiguratorProcessor.DATA_BOUND_CONSTRUCTOR)
+public class ConfiguratorProcessor extends AbstractProcessor {
+
+    static final String DATA_BOUND_CONSTRUCTOR = "org.kohsuke.stapler.DataBoundConstructor";
+    static final String DATA_BOUND_SETTER = "org.kohsuke.stapler.DataBoundSetter";
+    static final String SUFFIX = "_CascConfigurator";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            final Map<TypeElement, List<ExecutableElement>> constructors = new HashMap<>();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CONSTRUCTOR) {
+                    constructors
+                            .computeIfAbsent((TypeElement) element.getEnclosingElement(), k -> new ArrayList<>())
+                            .add((ExecutableElement) element);
+                }
+            }
+            for (Map.Entry<TypeElement, List<ExecutableElement>> entry : constructors.entrySet()) {
+                if (entry.getValue().size() == 1 && isSupported(entry.getKey(), entry.getValue().get(0))) {
+                    generate(entry.getKey(), entry.getValue().get(0));
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generated code must be able to instantiate the class from its own package.
+     */
+    private boolean isSupported(TypeElement type, ExecutableElement constructor) {
+        if (!constructor.getModifiers().contains(Modifier.PUBLIC)
+                || type.getModifiers().contains(Modifier.ABSTRACT)
+                || type.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        Element e = type;
+        while (e instanceof TypeElement t) {
+            if (!t.getModifiers().contains(Modifier.PUBLIC)
+                    || t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)
+                    || t.getNestingKind() == NestingKind.LOCAL
+                    || t.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            e = t.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, ExecutableElement constructor) {
+        final String packageName = processingEnv
+                .getElementUtils()
+                .getPackageOf(type)
+                .getQualifiedName()
+                .toString();
+        final String targetName = type.getQualifiedName().toString();
+        final String simpleName = generatedSimpleName(type);
+        final String generatedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(generatedName, type).openWriter();
+                PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import io.jenkins.plugins.casc.Attribute;");
+            out.println("import io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator;");
+            out.println("import java.lang.reflect.Constructor;");
+            out.println("import java.lang.reflect.InvocationTargetException;");
+            out.println("import java.util.Set;");
+            out.println("import javax.annotation.processing.Generated;");
+            out.println();
+            out.println("/**");
+            out.println(" * Configurator of {@link " + targetName + "}, calling its constructor and setters directly.");
+            out.println(" */");
+            out.println("@Generated(\"" + ConfiguratorProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+            out.println("public final class " + simpleName + " extends DataBoundConfigurator<" + targetName + "> {");
+            out.println();
+            out.println("    public " + simpleName + "() {");
+            out.println("        super(" + targetName + ".class);");
+            out.println("    }");
+            out.println();
+            writeConstruct(out, targetName, constructor);
+            writeDescribe(out, targetName, setters(type));
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Failed to generate " + generatedName + ": " + e, type);
+        }
+    }
+
+    private void writeConstruct(PrintWriter out, String targetName, ExecutableElement constructor) {
+        final List<? extends VariableElement> parameters = constructor.getParameters();
+        out.println("    @Override");
+        out.println("    protected " + targetName + " construct(Constructor<" + targetName
+                + "> constructor, Object[] args) throws ReflectiveOperationException {");
+        for (int i = 0; i < parameters.size(); i++) {
+            out.println("        final " + typeName(parameters.get(i).asType()) + " p" + i + ";");
+        }
+        if (!parameters.isEmpty()) {
+            out.println("        try {");
+            for (int i = 0; i < parameters.size(); i++) {
+                out.println("            p" + i + " = (" + boxedTypeName(parameters.get(i).asType()) + ") args[" + i
+                        + "];");
+            }
+            out.println("        } catch (ClassCastException | NullPointerException e) {");
+            out.println("            throw new IllegalArgumentException(e);");
+            out.println("        }");
+        }
+        final List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            arguments.add("p" + i);
+        }
+        out.println("        try {");
+        out.println("            return new " + targetName + "(" + String.join(", ", arguments) + ");");
+        out.println("        } catch (Throwable t) {");
+        out.println("            throw new InvocationTargetException(t);");
+        out.println("        }");
+        out.println("    }");
+        out.println();
+    }
+
+    private void writeDescribe(PrintWriter out, String targetName, Map<String, ExecutableElement> setters) {
+        if (setters.isEmpty()) {
+            return;
+        }
+        out.println("    @Override");
+        out.println("    public Set<Attribute<" + targetName + ", ?>> describe() {");
+        out.println("        final Set<Attribute<" + targetName + ", ?>> attributes = super.describe();");
+        out.println("        for (Attribute<" + targetName + ", ?> attribute : attributes) {");
+        out.println("            final Attribute.Setter fallback = attribute.getSetter();");
+        out.println("            switch (attribute.getName()) {");
+        for (Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+            final ExecutableElement setter = entry.getValue();
+            final String valueType = boxedTypeName(setter.getParameters().get(0).asType());
+            out.println("                case \"" + entry.getKey() + "\":");
+            out.println("                    ((Attribute) attribute).setter((Attribute.Setter) (target, value) -> {");
+            out.println("                        if (value instanceof " + valueType + " v) {");
+            out.println("                            ((" + targetName + ") target)." + setter.getSimpleName() + "(v);");
+            out.println("                        } else {");
+            out.println("                            fallback.setValue(target, value);");
+            out.println("                        }");
+            out.println("                    });");
+            out.println("                    break;");
+        }
+        out.println("                default:");
+        out.println("                    break;");
+        out.println("            }");
+        out.println("        }");
+        out.println("        return attributes;");
+        out.println("    }");
+    }
+
+    /**
+     * {@code DataBoundSetter}s by attribute name, when they can be called without conversion and are not overloaded.
+     */
+    private Map<String, ExecutableElement> setters(TypeElement type) {
+        final Map<String, List<ExecutableElement>> candidates = new HashMap<>();
+        for (ExecutableElement method :
+                ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final String name = method.getSimpleName().toString();
+            if (name.length() > 3
+                    && name.startsWith("set")
+                    && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                candidates.computeIfAbsent(name, k -> new ArrayList<>()).add(method);
+            }
+        }
+
+        final TypeMirror collection = processingEnv
+                .getTypeUtils()
+                .erasure(processingEnv
+                        .getElementUtils()
+                        .getTypeElement("java.util.Collection")
+                        .asType());
+        final Map<String, ExecutableElement> setters = new TreeMap<>();
+        for (List<ExecutableElement> methods : candidates.values()) {
+            if (methods.size() != 1) {
+                continue;
+            }
+            final ExecutableElement method = methods.get(0);
+            final TypeMirror parameter =
+                    processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+            if (!method.getModifiers().contains(Modifier.PUBLIC)
+                    || !hasAnnotation(method, DATA_BOUND_SETTER)
+                    || parameter.getKind() == TypeKind.ARRAY
+                    || processingEnv.getTypeUtils().isAssignable(parameter, collection)) {
+                continue;
+            }
+            final String property = method.getSimpleName().toString().substring(3);
+            setters.put(Character.toLowerCase(property.charAt(0)) + property.substring(1), method);
+        }
+        return setters;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(m -> ((TypeElement) m.getAnnotationType().asElement())
+                        .getQualifiedName()
+                        .contentEquals(annotation));
+    }
+
+    /**
+     * Simple name of the generated class, nested class names being joined by {@code _}.
+     */
+    static String generatedSimpleName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        Element e = type.getEnclosingElement();
+        while (!(e instanceof PackageElement)) {
+            name = e.getSimpleName() + "_" + name;
+            e = e.getEnclosingElement();
+        }
+        return name + SUFFIX;
+    }
+
+    /**
+     * Source name of the erased type, without any type annotation.
+     */
+    private String typeName(TypeMirror type) {
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return erasure.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (erasure instanceof ArrayType array) {
+            return typeName(array.getComponentType()) + "[]";
+        }
+        if (erasure instanceof DeclaredType declared) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+        return "java.lang.Object";
+    }
+
+    private String boxedTypeName(TypeMirror type) {
+        final TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind().isPrimitive()) {
+            return processingEnv
+                    .getTypeUtils()
+                    .boxedClass((PrimitiveType) erasure)
+                    .getQualifiedName()
+                    .toString();
+        }
+        return typeName(erasure);
+    }
+}
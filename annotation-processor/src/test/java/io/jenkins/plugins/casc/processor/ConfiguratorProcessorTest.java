@@ -0,0 +1,162 @@
+package io.jenkins.plugins.casc.processor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfiguratorProcessorTest {
+
+    @TempDir
+    Path tempFolder;
+
+    @Test
+    void generatesDirectConstructorAndSetterCalls() throws Exception {
+        String generated = process(
+                "Outer",
+                """
+                package sample;
+
+                import java.util.List;
+                import org.kohsuke.stapler.DataBoundConstructor;
+                import org.kohsuke.stapler.DataBoundSetter;
+
+                public class Outer {
+                    public static class Inner {
+                        @DataBoundConstructor
+                        public Inner(String name, int count, List<String> tags) {}
+
+                        @DataBoundSetter
+                        public void setDescription(String description) {}
+
+                        @DataBoundSetter
+                        public void setValues(String[] values) {}
+
+                        @DataBoundSetter
+                        public void setOverloaded(String value) {}
+
+                        public void setOverloaded(Integer value) {}
+                    }
+                }
+                """,
+                "Outer_Inner_CascConfigurator");
+
+        assertThat(generated, containsString("extends DataBoundConfigurator<sample.Outer.Inner>"));
+        assertThat(generated, containsString("p1 = (java.lang.Integer) args[1];"));
+        assertThat(generated, containsString("return new sample.Outer.Inner(p0, p1, p2);"));
+        assertThat(generated, containsString("case \"description\":"));
+        assertThat(generated, containsString("((sample.Outer.Inner) target).setDescription(v);"));
+        assertThat(generated, not(containsString("setValues")));
+        assertThat(generated, not(containsString("setOverloaded")));
+    }
+
+    @Test
+    void skipsClassesWhichCannotBeInstantiatedDirectly() throws Exception {
+        process(
+                "Hidden",
+                """
+                package sample;
+
+                import org.kohsuke.stapler.DataBoundConstructor;
+
+                class Hidden {
+                    @DataBoundConstructor
+                    public Hidden() {}
+                }
+                """,
+                null);
+    }
+
+    /**
+     * Declarations the processor and generated configurators rely on, reduced to what they use, as this module does
+     * not depend on Stapler nor on the plugin. Generated configurators are compiled against the plugin in its tests.
+     */
+    private static final Map<String, String> API = Map.of(
+            "org/kohsuke/stapler/DataBoundConstructor.java",
+            """
+            package org.kohsuke.stapler;
+
+            public @interface DataBoundConstructor {}
+            """,
+            "org/kohsuke/stapler/DataBoundSetter.java",
+            """
+            package org.kohsuke.stapler;
+
+            public @interface DataBoundSetter {}
+            """,
+            "io/jenkins/plugins/casc/Attribute.java",
+            """
+            package io.jenkins.plugins.casc;
+
+            public class Attribute<Owner, Type> {
+                public String getName() { return null; }
+                public Attribute<Owner, Type> setter(Setter<Owner, Type> setter) { return this; }
+                public Setter<Owner, Type> getSetter() { return null; }
+                public interface Setter<O, T> { void setValue(O target, T value) throws Exception; }
+            }
+            """,
+            "io/jenkins/plugins/casc/impl/configurators/DataBoundConfigurator.java",
+            """
+            package io.jenkins.plugins.casc.impl.configurators;
+
+            import io.jenkins.plugins.casc.Attribute;
+            import java.lang.reflect.Constructor;
+            import java.util.Set;
+
+            public class DataBoundConfigurator<T> {
+                public DataBoundConfigurator(Class<T> clazz) {}
+                protected T construct(Constructor<T> c, Object[] args) throws ReflectiveOperationException {
+                    return null;
+                }
+                public Set<Attribute<T, ?>> describe() { return null; }
+            }
+            """);
+
+    /**
+     * Run the processor alone on a source file, and return the configurator expected to be generated, if any.
+     */
+    private String process(String className, String source, String generatedName) throws Exception {
+        Path sources = Files.createDirectories(tempFolder.resolve("src/sample"));
+        List<String> files = new ArrayList<>();
+        files.add(Files.writeString(sources.resolve(className + ".java"), source, StandardCharsets.UTF_8)
+                .toString());
+        for (Map.Entry<String, String> api : API.entrySet()) {
+            Path file = tempFolder.resolve("src").resolve(api.getKey());
+            Files.createDirectories(file.getParent());
+            files.add(Files.writeString(file, api.getValue(), StandardCharsets.UTF_8).toString());
+        }
+        Path generated = Files.createDirectories(tempFolder.resolve("generated"));
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "-proc:only",
+                "-processor",
+                ConfiguratorProcessor.class.getName(),
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-s",
+                generated.toString()));
+        arguments.addAll(files);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, arguments.toArray(new String[0]));
+        assertEquals(0, result, "Compilation failed");
+
+        Path configurator = generated.resolve("sample").resolve(className + ConfiguratorProcessor.SUFFIX + ".java");
+        if (generatedName == null) {
+            assertFalse(Files.exists(configurator), "No configurator should be generated");
+            return null;
+        }
+        return Files.readString(generated.resolve("sample").resolve(generatedName + ".java"), StandardCharsets.UTF_8);
+    }
+}
@@ -9,10 +9,14 @@ import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Scalar;
 import io.jenkins.plugins.casc.model.Sequence;
 import io.jenkins.plugins.casc.util.ExtraFieldUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -57,6 +61,17 @@ public class Attribute<Owner, Type> {
         }
     };
 
+    private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** Default getter and setter of each attribute, resolved once per class and attribute name */
+    private static final ClassValue<Map<String, Accessors>> ACCESSORS_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, Accessors> computeValue(@NonNull Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     protected final String name;
     protected final Class type;
     protected boolean multiple;
@@ -467,21 +482,13 @@ public class Attribute<Owner, Type> {
     }
 
     private Type _getValue(Owner target) throws ConfiguratorException {
-        final Class<?> clazz = target.getClass();
+        final ReadAccessor reader = accessors(target.getClass(), name).reader();
+        if (reader == null) {
+            throw new ConfiguratorException("Can't read attribute '" + name + "' from " + target);
+        }
 
         try {
-            final Method method = locateGetter(clazz, this.name);
-            if (method != null) {
-                return (Type) method.invoke(target);
-            }
-
-            // If this is a public final field, developers don't define getters as jelly can use them as-is
-            final Field field = ExtraFieldUtils.getField(clazz, this.name, true);
-            if (field != null) {
-                return (Type) field.get(target);
-            }
-
-            throw new ConfiguratorException("Can't read attribute '" + name + "' from " + target);
+            return (Type) reader.read(target);
         } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
             throw new ConfiguratorException("Can't read attribute '" + name + "' from " + target, e);
         }
@@ -494,18 +501,8 @@ public class Attribute<Owner, Type> {
     private void _setValue(Owner target, Type value) throws Exception {
         final String setterId = target.getClass().getCanonicalName() + '#' + name;
 
-        Method writeMethod = null;
-        for (Method method : target.getClass().getMethods()) {
-            // Find most specialized variant of setter because the method
-            // can to have been overridden with concretized type
-            if (method.getName().equals("set" + StringUtils.capitalize(name))
-                    && (writeMethod == null
-                            || writeMethod.getParameterTypes()[0].isAssignableFrom(method.getParameterTypes()[0]))) {
-                writeMethod = method;
-            }
-        }
-
-        if (writeMethod == null) {
+        final Accessors accessors = accessors(target.getClass(), name);
+        if (accessors.writer() == null) {
             throw new IllegalStateException("Default value setter cannot find Property Descriptor for " + setterId);
         }
 
@@ -517,7 +514,7 @@ public class Attribute<Owner, Type> {
             // if setter expect an Array, convert Collection to expected array type
             // Typically required for hudson.tools.ToolDescriptor.setInstallations
             // as java varargs unfortunately only supports Arrays, not all Iterable (sic)
-            final Class c = writeMethod.getParameterTypes()[0];
+            final Class c = accessors.writeType();
             if (c.isArray()) {
                 Collection collection = (Collection) value;
                 o = collection.toArray((Object[]) Array.newInstance(type, collection.size()));
@@ -528,7 +525,100 @@ public class Attribute<Owner, Type> {
             }
         }
 
-        writeMethod.invoke(target, o);
+        accessors.writer().write(target, o);
+    }
+
+    private static Accessors accessors(Class<?> clazz, String name) {
+        return ACCESSORS_CACHE.get(clazz).computeIfAbsent(name, key -> resolveAccessors(clazz, key));
+    }
+
+    private static Accessors resolveAccessors(Class<?> clazz, String name) {
+        ReadAccessor reader = null;
+        final Method getter = locateGetter(clazz, name);
+        if (getter != null) {
+            reader = reader(getter);
+        } else {
+            // If this is a public final field, developers don't define getters as jelly can use them as-is
+            final Field field = ExtraFieldUtils.getField(clazz, name, true);
+            if (field != null) {
+                reader = reader(field);
+            }
+        }
+
+        Method writeMethod = null;
+        final String setterName = "set" + StringUtils.capitalize(name);
+        for (Method method : clazz.getMethods()) {
+            // Find most specialized variant of setter because the method
+            // can to have been overridden with concretized type
+            if (method.getName().equals(setterName)
+                    && (writeMethod == null
+                            || writeMethod.getParameterTypes()[0].isAssignableFrom(method.getParameterTypes()[0]))) {
+                writeMethod = method;
+            }
+        }
+
+        return writeMethod != null
+                ? new Accessors(reader, writeMethod.getParameterTypes()[0], writer(writeMethod))
+                : new Accessors(reader, null, null);
+    }
+
+    private static ReadAccessor reader(Method method) {
+        final MethodHandle handle;
+        try {
+            handle = adapt(MethodHandles.publicLookup().unreflect(method), method.getModifiers(), READ_TYPE);
+        } catch (IllegalAccessException e) {
+            // e.g. a public method declared by a package-private class, left to reflection to report
+            return method::invoke;
+        }
+        return target -> {
+            try {
+                return (Object) handle.invokeExact(target);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+
+    private static ReadAccessor reader(Field field) {
+        final MethodHandle handle;
+        try {
+            handle = adapt(MethodHandles.publicLookup().unreflectGetter(field), field.getModifiers(), READ_TYPE);
+        } catch (IllegalAccessException e) {
+            return field::get;
+        }
+        return target -> {
+            try {
+                return (Object) handle.invokeExact(target);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
+    }
+
+    /**
+     * Adapt a handle to an erased type, ignoring the target for static members as reflection does.
+     */
+    private static MethodHandle adapt(MethodHandle handle, int modifiers, MethodType type) {
+        if (Modifier.isStatic(modifiers)) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    private static WriteAccessor writer(Method method) {
+        final MethodHandle handle;
+        try {
+            handle = adapt(MethodHandles.publicLookup().unreflect(method), method.getModifiers(), WRITE_TYPE);
+        } catch (IllegalAccessException e) {
+            return method::invoke;
+        }
+        return (target, value) -> {
+            try {
+                handle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        };
     }
 
     @Override
@@ -563,4 +653,20 @@ public class Attribute<Owner, Type> {
         }
         return false;
     }
+
+    @FunctionalInterface
+    private interface ReadAccessor {
+        Object read(Object target) throws IllegalAccessException, InvocationTargetException;
+    }
+
+    @FunctionalInterface
+    private interface WriteAccessor {
+        void write(Object target, Object value) throws IllegalAccessException, InvocationTargetException;
+    }
+
+    /**
+     * Resolved default accessors. {@code writeType} is the parameter type of the setter, if any.
+     */
+    private record Accessors(
+            @CheckForNull ReadAccessor reader, @CheckForNull Class<?> writeType, @CheckForNull WriteAccessor writer) {}
 }
@@ -5,8 +5,14 @@ import static java.lang.reflect.Array.set;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.BulkChange;
+import hudson.ExtensionListListener;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
 import hudson.model.Describable;
+import hudson.model.Descriptor;
 import hudson.model.Saveable;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
 import hudson.util.DescribableList;
 import hudson.util.PersistedList;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
@@ -35,15 +41,20 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import jenkins.model.Jenkins;
 import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.accmod.AccessRestriction;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.Beta;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 import org.kohsuke.accmod.restrictions.None;
+import org.springframework.security.core.Authentication;
 
 /**
  * a General purpose abstract {@link Configurator} implementation based on introspection.
@@ -57,68 +68,155 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
 
     private static final Logger LOGGER = Logger.getLogger(BaseConfigurator.class.getName());
 
+    /**
+     * Reflection over target classes, shared by all configurators. Replaced when extensions change, as plugins
+     * loaded dynamically may bring new types for attributes.
+     */
+    private static volatile ClassValue<Introspection> introspections = newIntrospections();
+
+    /**
+     * {@link #describe()} sorted by ordinal, as used to configure instances, along with the {@link #introspections}
+     * it was computed from.
+     */
+    private transient volatile SortedAttributes<T> sortedAttributes;
+
     @NonNull
     public Set<Attribute<T, ?>> describe() {
 
         Map<String, Attribute<T, ?>> attributes = new HashMap<>();
         final Set<String> exclusions = exclusions();
+        final Introspection introspection = introspections.get(getTarget());
 
-        for (Field field : getTarget().getFields()) {
+        for (Field field : introspection.persistedListFields) {
             final String name = field.getName();
             if (exclusions.contains(name)) {
                 continue;
             }
 
-            if (PersistedList.class.isAssignableFrom(field.getType())) {
-                if (Modifier.isTransient(field.getModifiers())) {
-                    exclusions.add(name);
-                    continue;
+            if (Modifier.isTransient(field.getModifiers())) {
+                exclusions.add(name);
+                continue;
+            }
+
+            Attribute attribute = createAttribute(name, TypePair.of(field))
+                    .getter(field::get); // get value by direct access to public final field
+            attributes.put(name, attribute);
+        }
+
+        for (Method method : introspection.persistedListGetters) {
+            String name = StringUtils.uncapitalize(method.getName().substring(3));
+            if (exclusions.contains(name)) {
+                continue;
+            }
+
+            TypePair type = TypePair.ofReturnType(method);
+            @SuppressWarnings("unchecked")
+            Attribute<T, ?> attribute = (Attribute<T, ?>) createAttribute(name, type);
+
+            if (attribute != null) {
+                attribute.deprecated(method.getAnnotation(Deprecated.class) != null);
+                final Restricted r = method.getAnnotation(Restricted.class);
+                if (r != null) {
+                    attribute.restrictions(r.value());
+                }
+                attributes.putIfAbsent(name, attribute);
+            }
+        }
+
+        for (Property property : introspection.properties) {
+            final String name = property.name();
+            if (exclusions.contains(name)) {
+                continue;
+            }
+
+            final TypePair finalType = property.type();
+            final Method bestMethod = property.setter();
+
+            @SuppressWarnings("unchecked")
+            Attribute<T, Object> rawAttribute = (Attribute<T, Object>) createAttribute(name, finalType);
+            if (rawAttribute == null) {
+                continue;
+            }
+            rawAttribute.setter((targetInstance, value) -> {
+                Object finalValue = value;
+
+                if (value instanceof Collection<?> collection) {
+                    if (finalType.rawType.isArray()) {
+                        Object array = newInstance(rawAttribute.getType(), collection.size());
+                        int i = 0;
+                        for (Object item : collection) {
+                            set(array, i++, item);
+                        }
+                        finalValue = array;
+
+                    } else if (SortedSet.class.isAssignableFrom(finalType.rawType)) {
+                        finalValue = new TreeSet<>(collection);
+
+                    } else if (Set.class.isAssignableFrom(finalType.rawType)) {
+                        finalValue = new LinkedHashSet<>(collection);
+                    }
                 }
 
-                Attribute attribute = createAttribute(name, TypePair.of(field))
-                        .getter(field::get); // get value by direct access to public final field
-                attributes.put(name, attribute);
+                bestMethod.invoke(targetInstance, finalValue);
+            });
+
+            rawAttribute.deprecated(bestMethod.getAnnotation(Deprecated.class) != null);
+            final Restricted r = bestMethod.getAnnotation(Restricted.class);
+            if (r != null) {
+                rawAttribute.restrictions(r.value());
+            }
+
+            Attribute<T, ?> prevAttribute = attributes.get(name);
+            if (prevAttribute == null || ((Class<?>) prevAttribute.type).isAssignableFrom(rawAttribute.type)) {
+                attributes.put(name, rawAttribute);
             }
         }
 
-        final Class<T> target = getTarget();
+        return new HashSet<>(attributes.values());
+    }
+
+    /**
+     * {@link #describe()} sorted by ordinal, computed once per configurator.
+     * Callers must not modify the attributes.
+     */
+    private List<Attribute<T, ?>> getSortedAttributes() {
+        final ClassValue<Introspection> current = introspections;
+        SortedAttributes<T> sorted = sortedAttributes;
+        if (sorted == null || sorted.introspections() != current) {
+            sorted = new SortedAttributes<>(
+                    current,
+                    describe().stream()
+                            .sorted(Configurator.extensionOrdinalSort())
+                            .collect(Collectors.toUnmodifiableList()));
+            sortedAttributes = sorted;
+        }
+        return sorted.attributes();
+    }
+
+    private static Introspection introspect(Class<?> target) {
+        final Introspection introspection = new Introspection();
+        for (Field field : target.getFields()) {
+            if (PersistedList.class.isAssignableFrom(field.getType())) {
+                introspection.persistedListFields.add(field);
+            }
+        }
+
+        final Method[] methods = target.getMethods();
         Map<String, List<Method>> methodsByProperty = new HashMap<>();
         // Resolve the methods and merging overrides to more concretized signatures
         // because the methods can to have been overridden with concretized type
-        for (Method method : target.getMethods()) {
+        for (Method method : methods) {
             final String methodName = method.getName();
             if (method.getParameterCount() == 0
                     && methodName.startsWith("get")
                     && PersistedList.class.isAssignableFrom(method.getReturnType())) {
-                String name = StringUtils.uncapitalize(methodName.substring(3));
-                if (exclusions.contains(name)) {
-                    continue;
-                }
-
-                TypePair type = TypePair.ofReturnType(method);
-                @SuppressWarnings("unchecked")
-                Attribute<T, ?> attribute = (Attribute<T, ?>) createAttribute(name, type);
-
-                if (attribute != null) {
-                    attribute.deprecated(method.getAnnotation(Deprecated.class) != null);
-                    final Restricted r = method.getAnnotation(Restricted.class);
-                    if (r != null) {
-                        attribute.restrictions(r.value());
-                    }
-                    attributes.putIfAbsent(name, attribute);
-                }
+                introspection.persistedListGetters.add(method);
                 continue;
             }
 
             if (method.getParameterCount() == 1 && methodName.startsWith("set")) {
-                String propertySuffix = methodName.substring(3);
-                final String name = StringUtils.uncapitalize(propertySuffix);
-
-                if (exclusions.contains(name)) {
-                    continue;
-                }
                 methodsByProperty
-                        .computeIfAbsent(propertySuffix, k -> new ArrayList<>())
+                        .computeIfAbsent(methodName.substring(3), k -> new ArrayList<>())
                         .add(method);
             }
         }
@@ -127,7 +225,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
             final String propertySuffix = entry.getKey();
             final String name = StringUtils.uncapitalize(propertySuffix);
 
-            Method g = findGetter(target, propertySuffix);
+            Method g = findGetter(methods, propertySuffix);
 
             if (g == null) {
                 continue;
@@ -162,59 +260,19 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
                 continue;
             }
 
-            final TypePair finalType = type;
-
-            @SuppressWarnings("unchecked")
-            Attribute<T, Object> rawAttribute = (Attribute<T, Object>) createAttribute(name, type);
-            if (rawAttribute == null) {
-                continue;
-            }
-            rawAttribute.setter((targetInstance, value) -> {
-                Object finalValue = value;
-
-                if (value instanceof Collection<?> collection) {
-                    if (finalType.rawType.isArray()) {
-                        Object array = newInstance(rawAttribute.getType(), collection.size());
-                        int i = 0;
-                        for (Object item : collection) {
-                            set(array, i++, item);
-                        }
-                        finalValue = array;
-
-                    } else if (SortedSet.class.isAssignableFrom(finalType.rawType)) {
-                        finalValue = new TreeSet<>(collection);
-
-                    } else if (Set.class.isAssignableFrom(finalType.rawType)) {
-                        finalValue = new LinkedHashSet<>(collection);
-                    }
-                }
-
-                bestMethod.invoke(targetInstance, finalValue);
-            });
-
-            rawAttribute.deprecated(bestMethod.getAnnotation(Deprecated.class) != null);
-            final Restricted r = bestMethod.getAnnotation(Restricted.class);
-            if (r != null) {
-                rawAttribute.restrictions(r.value());
-            }
-
-            Attribute<T, ?> prevAttribute = attributes.get(name);
-            if (prevAttribute == null || ((Class<?>) prevAttribute.type).isAssignableFrom(rawAttribute.type)) {
-                attributes.put(name, rawAttribute);
-            }
+            introspection.properties.add(new Property(name, type, bestMethod));
         }
-
-        return new HashSet<>(attributes.values());
+        return introspection;
     }
 
     /**
      * Check if target class has a Getter method for property s
      */
-    private Method findGetter(Class<T> c, String s) {
+    private static Method findGetter(Method[] methods, String s) {
         String getMethod = "get" + s;
         String isMethod = "is" + s;
 
-        for (Method m : c.getMethods()) {
+        for (Method m : methods) {
             if (m.getParameterCount() == 0) {
                 if (m.getName().equals(getMethod)) {
                     return m;
@@ -231,6 +289,45 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         return null;
     }
 
+    private static ClassValue<Introspection> newIntrospections() {
+        return new ClassValue<>() {
+            @Override
+            protected Introspection computeValue(@NonNull Class<?> type) {
+                return introspect(type);
+            }
+        };
+    }
+
+    /**
+     * Drop reflection results when extensions change, typically when a plugin is loaded dynamically.
+     */
+    @Restricted(NoExternalUse.class)
+    @Initializer(after = InitMilestone.EXTENSIONS_AUGMENTED)
+    public static void invalidateIntrospectionOnExtensionsChange() {
+        Jenkins.get().getExtensionList(Descriptor.class).addListener(new ExtensionListListener() {
+            @Override
+            public void onChange() {
+                introspections = newIntrospections();
+            }
+        });
+    }
+
+    /**
+     * Attributes candidates of a target class, as found by introspection.
+     */
+    private static final class Introspection {
+        private final List<Field> persistedListFields = new ArrayList<>();
+        private final List<Method> persistedListGetters = new ArrayList<>();
+        private final List<Property> properties = new ArrayList<>();
+    }
+
+    /**
+     * JavaBean property with a getter, and the setter which best matches it.
+     */
+    private record Property(String name, TypePair type, Method setter) {}
+
+    private record SortedAttributes<T>(ClassValue<Introspection> introspections, List<Attribute<T, ?>> attributes) {}
+
     /**
      * Attribute names that are detected by introspection but should be excluded
      */
@@ -389,10 +486,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
      */
     protected void configure(Mapping config, T instance, boolean dryrun, ConfigurationContext context)
             throws ConfiguratorException {
-        final Set<Attribute<T, ?>> attributes = describe();
-        List<Attribute<T, ?>> sortedAttributes =
-                attributes.stream().sorted(Configurator.extensionOrdinalSort()).collect(Collectors.toList());
-        for (Attribute<T, ?> attribute : sortedAttributes) {
+        for (Attribute<T, ?> attribute : getSortedAttributes()) {
 
             final String name = attribute.getName();
             CNode sub = removeIgnoreCase(config, name);
@@ -436,12 +530,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
                 final Object valueToSet;
                 try {
                     if (attribute.isMultiple()) {
-                        List<Object> values = new ArrayList<>();
-                        for (CNode o : sub.asSequence()) {
-                            Object value = dryrun ? configurator.check(o, context) : configurator.configure(o, context);
-                            values.add(value);
-                        }
-                        valueToSet = values;
+                        valueToSet = configureAll(configurator, sub.asSequence(), dryrun, context);
                     } else {
                         valueToSet = dryrun ? configurator.check(sub, context) : configurator.configure(sub, context);
                     }
@@ -474,6 +563,77 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         handleUnknown(config, context);
     }
 
+    /**
+     * Configure every element of a sequence, concurrently when the configurator is side-effect free and
+     * {@link ConfigurationContext#getSequenceThreads()} allows it. Values are in the order of the sequence, and the
+     * error reported is the one of the first failing element.
+     */
+    protected static List<Object> configureAll(
+            Configurator configurator, List<CNode> nodes, boolean dryrun, ConfigurationContext context)
+            throws ConfiguratorException {
+        final List<Object> values = new ArrayList<>(nodes.size());
+        if (nodes.size() < 2 || context.getSequenceThreads() < 2 || !configurator.isSideEffectFree(context)) {
+            for (CNode o : nodes) {
+                values.add(dryrun ? configurator.check(o, context) : configurator.configure(o, context));
+            }
+            return values;
+        }
+
+        final Authentication authentication = Jenkins.getAuthentication2();
+        final ClassLoader classLoader = Jenkins.get().getPluginManager().uberClassLoader;
+        final boolean applying = ConfigurationAsCode.isApplying();
+        final ForkJoinPool pool = context.getSequencePool();
+        final boolean nested = ForkJoinTask.getPool() == pool;
+        final List<ForkJoinTask<Object>> tasks = new ArrayList<>(nodes.size());
+        // the pool may rethrow a copy of a failure thrown by another thread, keep the original
+        final Throwable[] failures = new Throwable[nodes.size()];
+        for (CNode o : nodes) {
+            final int index = tasks.size();
+            final ForkJoinTask<Object> task = ForkJoinTask.adapt(() -> {
+                final Thread thread = Thread.currentThread();
+                final ClassLoader previous = thread.getContextClassLoader();
+                thread.setContextClassLoader(classLoader);
+                final boolean wasApplying = ConfigurationAsCode.setApplying(applying);
+                try (ACLContext ignored = ACL.as2(authentication)) {
+                    return dryrun ? configurator.check(o, context) : configurator.configure(o, context);
+                } catch (RuntimeException | Error e) {
+                    failures[index] = e;
+                    throw e;
+                } finally {
+                    ConfigurationAsCode.setApplying(wasApplying);
+                    thread.setContextClassLoader(previous);
+                }
+            });
+            if (nested) {
+                task.fork();
+            } else {
+                pool.execute(task);
+            }
+            tasks.add(task);
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                values.add(tasks.get(i).get());
+            } catch (InterruptedException e) {
+                tasks.forEach(t -> t.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ConfiguratorException("Interrupted while configuring sequence elements", e);
+            } catch (ExecutionException e) {
+                tasks.forEach(t -> t.cancel(true));
+                final Throwable cause = failures[i] != null ? failures[i] : e.getCause();
+                if (cause instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new ConfiguratorException(configurator, "Failed to configure element " + i, cause);
+            }
+        }
+        return values;
+    }
+
     protected final void handleUnknown(Mapping config, ConfigurationContext context) throws ConfiguratorException {
         if (!config.isEmpty()) {
             final String invalid = StringUtils.join(config.keySet(), ',');
@@ -563,7 +723,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
     }
 
     @Restricted(NoExternalUse.class)
-    Method resolveBestSetter(List<Method> methods, Class<?> getterRawType) {
+    static Method resolveBestSetter(List<Method> methods, Class<?> getterRawType) {
         List<Method> realMethods =
                 methods.stream().filter(m -> !m.isBridge() && !m.isSynthetic()).collect(Collectors.toList());
         if (!realMethods.isEmpty()) {
@@ -618,7 +778,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         return best;
     }
 
-    private boolean isSameType(Class<?> a, Class<?> b) {
+    private static boolean isSameType(Class<?> a, Class<?> b) {
         if (a == b) {
             return true;
         }
@@ -631,7 +791,7 @@ public abstract class BaseConfigurator<T> implements Configurator<T> {
         return false;
     }
 
-    private boolean isWrapper(Class<?> wrapper, Class<?> primitive) {
+    private static boolean isWrapper(Class<?> wrapper, Class<?> primitive) {
         if (primitive == int.class) {
             return wrapper == Integer.class;
         }
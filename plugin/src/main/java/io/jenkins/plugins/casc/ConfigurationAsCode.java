@@ -59,9 +59,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -116,9 +116,26 @@ public class ConfigurationAsCode extends ManagementLink {
     @Inject
     private DefaultConfiguratorRegistry registry;
 
-    private long lastTimeLoaded;
+    private volatile long lastTimeLoaded;
 
-    private List<String> sources = Collections.emptyList();
+    private volatile List<String> sources = Collections.emptyList();
+
+    /**
+     * Fingerprint of each root element, by lower-case name, as of the last successful apply.
+     */
+    private volatile Map<String, String> appliedFingerprints = Collections.emptyMap();
+
+    /**
+     * Whether the current thread is applying root elements, so its saves are not changes made by other means.
+     */
+    private static final ThreadLocal<Boolean> APPLYING = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Whether the configuration has been changed by other means while root elements were being applied.
+     */
+    private boolean drifted;
+
+    private final ReloadCoordinator reloads = new ReloadCoordinator();
 
     @CheckForNull
     @Override
@@ -232,20 +249,30 @@ public class ConfigurationAsCode extends ManagementLink {
             }
             if (!candidateSources.isEmpty()) {
                 List<YamlSource> candidates = getConfigFromSources(candidateSources);
-                if (canApplyFrom(candidates)) {
-                    sources = candidateSources;
-                    configureWith(getConfigFromSources(getSources()));
-                    CasCGlobalConfig config = GlobalConfiguration.all().get(CasCGlobalConfig.class);
-                    if (config != null) {
-                        config.setConfigurationPath(normalizedSource);
-                        config.save();
-                    }
-                    LOGGER.log(Level.FINE, "Replace configuration with: " + normalizedSource);
-                } else {
-                    LOGGER.log(Level.WARNING, "Provided sources could not be applied");
-                    throw new ConfiguratorException(
-                            "Provided sources could not be applied. Please check the syntax and validity of the provided configuration.");
-                }
+                // check and apply at once, so that no other change is applied in between
+                reloads.apply(() -> {
+                            CheckedConfiguration checked = checkedOrNull(candidates);
+                            if (checked == null) {
+                                LOGGER.log(Level.WARNING, "Provided sources could not be applied");
+                                throw new ConfiguratorException(
+                                        "Provided sources could not be applied. Please check the syntax and validity of the provided configuration.");
+                            }
+                            sources = candidateSources;
+                            // apply the new sources as checked, rather than parsing and checking them again
+                            lastTimeLoaded = System.currentTimeMillis();
+                            configureWith(checked);
+                            CasCGlobalConfig config = GlobalConfiguration.all().get(CasCGlobalConfig.class);
+                            if (config != null) {
+                                config.setConfigurationPath(normalizedSource);
+                                try {
+                                    config.save();
+                                } catch (IOException e) {
+                                    throw new ConfiguratorException("Failed to save configuration path", e);
+                                }
+                            }
+                        })
+                        .join();
+                LOGGER.log(Level.FINE, "Replace configuration with: " + normalizedSource);
             } else {
                 LOGGER.log(Level.FINE, "No such source exists, applying default");
                 // May be do nothing instead?
@@ -266,14 +293,15 @@ public class ConfigurationAsCode extends ManagementLink {
         response.sendRedirect("");
     }
 
-    private boolean canApplyFrom(List<YamlSource> yamlSources) {
+    @CheckForNull
+    private CheckedConfiguration checkedOrNull(List<YamlSource> yamlSources) {
         try {
-            checkWith(yamlSources);
-            return true;
+            ConfigurationContext context = new ConfigurationContext(registry);
+            return check(YamlUtils.loadFrom(yamlSources, context), context);
         } catch (ConfiguratorException e) {
-            // ignore and return false
+            // ignore and return null
         }
-        return false;
+        return null;
     }
 
     @POST
@@ -363,10 +391,28 @@ public class ConfigurationAsCode extends ManagementLink {
 
     /**
      * Main entry point to start configuration process.
+     * Reloads requested while another one is waiting to run are applied together, see {@link ReloadCoordinator}.
      * @throws ConfiguratorException Configuration error
      */
     public void configure() throws ConfiguratorException {
-        configureWith(getStandardConfigSources());
+        reloads.reload(() -> configureWith(getStandardConfigSources())).join();
+    }
+
+    /**
+     * Reload the configuration sources in the background, as {@link #configure()} does.
+     * @return the reload, which can be looked up by id through {@link #getReloadCoordinator()}
+     */
+    @Restricted(NoExternalUse.class)
+    public ReloadCoordinator.Reload submitReload() {
+        return reloads.submit(() -> configureWith(getStandardConfigSources()));
+    }
+
+    /**
+     * Coordinator through which every change to the configuration is applied.
+     */
+    @Restricted(NoExternalUse.class)
+    public ReloadCoordinator getReloadCoordinator() {
+        return reloads;
     }
 
     private List<YamlSource> getStandardConfigSources() throws ConfiguratorException {
@@ -599,7 +645,7 @@ public class ConfigurationAsCode extends ManagementLink {
         final List<NodeTuple> tuples = new ArrayList<>();
 
         final ConfigurationContext context = new ConfigurationContext(registry);
-        for (RootElementConfigurator root : RootElementConfigurator.all()) {
+        for (RootElementConfigurator root : RootElementConfigurators.all()) {
             final CNode config = root.describe(root.getTargetComponent(context), context);
             final Node valueNode = toYaml(config);
             if (valueNode == null) {
@@ -707,15 +753,17 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     public void configure(Collection<String> configParameters) throws ConfiguratorException {
+        reloads.apply(() -> {
+                    List<YamlSource> configs = new ArrayList<>();
 
-        List<YamlSource> configs = new ArrayList<>();
-
-        for (String p : configParameters) {
-            appendSources(configs, p);
-        }
-        sources = Collections.unmodifiableList(new ArrayList<>(configParameters));
-        configureWith(configs);
-        lastTimeLoaded = System.currentTimeMillis();
+                    for (String p : configParameters) {
+                        appendSources(configs, p);
+                    }
+                    sources = Collections.unmodifiableList(new ArrayList<>(configParameters));
+                    configureWith(configs);
+                    lastTimeLoaded = System.currentTimeMillis();
+                })
+                .join();
     }
 
     public static boolean isSupportedURI(String configurationParameter) {
@@ -737,9 +785,12 @@ public class ConfigurationAsCode extends ManagementLink {
 
     @Restricted(NoExternalUse.class)
     public void configureWith(YamlSource source) throws ConfiguratorException {
-        final List<YamlSource> sources = getStandardConfigSources();
-        sources.add(source);
-        configureWith(sources);
+        reloads.apply(() -> {
+                    final List<YamlSource> sources = getStandardConfigSources();
+                    sources.add(source);
+                    configureWith(sources);
+                })
+                .join();
     }
 
     private void configureWith(List<YamlSource> sources) throws ConfiguratorException {
@@ -799,7 +850,7 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     @FunctionalInterface
-    private interface ConfiguratorOperation {
+    interface ConfiguratorOperation {
 
         Object apply(RootElementConfigurator configurator, CNode node) throws ConfiguratorException;
     }
@@ -812,21 +863,39 @@ public class ConfigurationAsCode extends ManagementLink {
      * @throws ConfiguratorException configuration error
      */
     private static void invokeWith(Mapping entries, ConfiguratorOperation function) throws ConfiguratorException {
+        invokeWith(entries, function, 1);
+    }
+
+    /**
+     * @param threads maximum number of root elements applied concurrently
+     * @see RootElementScheduler
+     */
+    private static void invokeWith(Mapping entries, ConfiguratorOperation function, int threads)
+            throws ConfiguratorException {
 
         // Run configurators by order, consuming entries until all have found a matching configurator.
         // Configurators order is important so that io.jenkins.plugins.casc.plugins.PluginManagerConfigurator run
         // before any other, and can install plugins required by other configuration to successfully parse yaml data
-        for (RootElementConfigurator configurator : RootElementConfigurator.all()) {
-            final Iterator<Map.Entry<String, CNode>> it = entries.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<String, CNode> entry = it.next();
-                if (!entry.getKey().equalsIgnoreCase(configurator.getName())) {
-                    continue;
-                }
-                function.apply(configurator, entry.getValue());
-                it.remove();
-                break;
+        final Map<String, String> keys = new HashMap<>();
+        for (String key : entries.keySet()) {
+            keys.putIfAbsent(key.toLowerCase(Locale.ROOT), key);
+        }
+        final List<RootElementConfigurator> configurators = new ArrayList<>();
+        final List<CNode> nodes = new ArrayList<>();
+        for (RootElementConfigurator configurator : RootElementConfigurators.all()) {
+            final String key = keys.get(configurator.getName().toLowerCase(Locale.ROOT));
+            if (key == null || !entries.containsKey(key)) {
+                continue;
             }
+            if (threads > 1) {
+                configurators.add(configurator);
+                nodes.add(entries.remove(key));
+            } else {
+                function.apply(configurator, entries.remove(key));
+            }
+        }
+        if (!configurators.isEmpty()) {
+            new RootElementScheduler(configurators, nodes).apply(function, threads);
         }
 
         if (!entries.isEmpty()) {
@@ -860,23 +929,144 @@ public class ConfigurationAsCode extends ManagementLink {
     }
 
     private void configureWith(Mapping entries, ConfigurationContext context) throws ConfiguratorException {
+        configureWith(check(entries, context));
+    }
+
+    /**
+     * Check input before actually applying changes, so we don't let controller in a
+     * weird state after some ConfiguratorException has been thrown
+     */
+    CheckedConfiguration check(Mapping entries, ConfigurationContext context) throws ConfiguratorException {
         // Initialize secret sources
         SecretSource.all().forEach(SecretSource::init);
+        // secrets are revealed once for both the check and the apply
+        context.getSecretSourceResolver().enableCache();
 
-        // Check input before actually applying changes, so we don't let controller in a
-        // weird state after some ConfiguratorException has been thrown
         final Mapping clone = entries.clone();
-        checkWith(clone, context);
+        boolean checked = false;
+        try {
+            context.getSecretSourceResolver().prefetch(entries);
+            checkWith(clone, context);
+            checked = true;
+        } finally {
+            if (!checked) {
+                // revealed secrets only outlive the check to be applied
+                context.getSecretSourceResolver().clearCache();
+            }
+        }
+        return new CheckedConfiguration(entries, context);
+    }
+
+    private void configureWith(CheckedConfiguration checked) throws ConfiguratorException {
+        try {
+            applyChecked(checked);
+        } finally {
+            checked.context.getSecretSourceResolver().clearCache();
+        }
+    }
+
+    private void applyChecked(CheckedConfiguration checked) throws ConfiguratorException {
+        final Mapping entries = checked.consume();
+        final ConfigurationContext context = checked.context;
+        // changes made by other means from now on are not known to be reverted by this apply
+        synchronized (this) {
+            drifted = false;
+        }
+
+        final Map<String, String> fingerprints = new HashMap<>();
+        for (Map.Entry<String, CNode> entry : entries.entrySet()) {
+            if (isNotAliasEntry(entry.getKey())) {
+                fingerprints.put(
+                        entry.getKey().toLowerCase(Locale.ROOT),
+                        ConfigurationFingerprint.of(entry.getValue(), context));
+            }
+        }
+        final Mapping skipped = new Mapping();
+        if (!context.isFullApply()) {
+            final Map<String, String> applied = appliedFingerprints;
+            entries.entrySet().removeIf(entry -> {
+                final String name = entry.getKey().toLowerCase(Locale.ROOT);
+                final String fingerprint = fingerprints.get(name);
+                final boolean unchanged = fingerprint != null && fingerprint.equals(applied.get(name));
+                if (unchanged) {
+                    LOGGER.log(Level.FINE, "Skipping unchanged root element {0}", entry.getKey());
+                    skipped.put(entry.getKey(), entry.getValue());
+                }
+                return unchanged;
+            });
+        }
 
         final ObsoleteConfigurationMonitor monitor = ObsoleteConfigurationMonitor.get();
         monitor.reset();
         context.clearListeners();
         context.addListener(monitor::record);
+        // a partial apply leaves an unknown state, next one must apply everything
+        appliedFingerprints = Collections.emptyMap();
+        reloads.applying((int) entries.keySet().stream()
+                .filter(ConfigurationAsCode::isNotAliasEntry)
+                .count());
+        final boolean previous = setApplying(true);
         try (ACLContext acl = ACL.as2(ACL.SYSTEM2)) {
-            invokeWith(entries, (configurator, config) -> configurator.configure(config, context));
+            // skipped root elements are still checked, so their warnings are recorded again
+            invokeWith(skipped, (configurator, config) -> configurator.check(config, context));
+            invokeWith(
+                    entries,
+                    (configurator, config) -> {
+                        // root elements may be applied by other threads
+                        final boolean applying = setApplying(true);
+                        try {
+                            final Object configured = configurator.configure(config, context);
+                            reloads.applied();
+                            return configured;
+                        } finally {
+                            setApplying(applying);
+                        }
+                    },
+                    context.getApplyThreads());
+            synchronized (this) {
+                if (!drifted) {
+                    appliedFingerprints = fingerprints;
+                }
+            }
+        } finally {
+            setApplying(previous);
         }
     }
 
+    /**
+     * Forget which configuration has been applied, so that the next reload applies every root element. Called when
+     * the configuration may have been changed by other means than configuration as code, saves made while applying
+     * root elements are ignored.
+     */
+    synchronized void forgetAppliedConfiguration() {
+        if (APPLYING.get()) {
+            return;
+        }
+        drifted = true;
+        if (!appliedFingerprints.isEmpty()) {
+            LOGGER.log(Level.FINE, "Configuration changed since last applied, next reload applies everything");
+            appliedFingerprints = Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Mark the current thread as applying root elements or not.
+     *
+     * @return whether it was applying root elements, to be restored afterwards
+     */
+    static boolean setApplying(boolean applying) {
+        final boolean previous = APPLYING.get();
+        APPLYING.set(applying);
+        return previous;
+    }
+
+    /**
+     * @return whether the current thread is applying root elements
+     */
+    static boolean isApplying() {
+        return APPLYING.get();
+    }
+
     public Map<Source, String> checkWith(Mapping entries, ConfigurationContext context) throws ConfiguratorException {
         Map<Source, String> issues = new HashMap<>();
         context.addListener((node, message) -> issues.put(node.getSource(), message));
@@ -884,6 +1074,30 @@ public class ConfigurationAsCode extends ManagementLink {
         return issues;
     }
 
+    /**
+     * Configuration which passed the dry run, applied as is so it does not need to be checked a second time.
+     * Configurators consume the entries they apply, so it can only be applied once.
+     */
+    static final class CheckedConfiguration {
+
+        private Mapping entries;
+        private final ConfigurationContext context;
+
+        private CheckedConfiguration(Mapping entries, ConfigurationContext context) {
+            this.entries = entries;
+            this.context = context;
+        }
+
+        private Mapping consume() {
+            final Mapping consumed = entries;
+            if (consumed == null) {
+                throw new IllegalStateException("Configuration has already been applied");
+            }
+            entries = null;
+            return consumed;
+        }
+    }
+
     public static ConfigurationAsCode get() {
         return Jenkins.get().getExtensionList(ConfigurationAsCode.class).get(0);
     }
@@ -899,7 +1113,7 @@ public class ConfigurationAsCode extends ManagementLink {
      * Used for documentation generation in index.jelly
      */
     public Collection<?> getConfigurators() {
-        List<RootElementConfigurator> roots = RootElementConfigurator.all();
+        List<RootElementConfigurator> roots = RootElementConfigurators.all();
         final ConfigurationContext context = new ConfigurationContext(registry);
         Set<Object> elements = new LinkedHashSet<>(roots);
         for (RootElementConfigurator root : roots) {
@@ -7,6 +7,7 @@ import io.jenkins.plugins.casc.model.CNode;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.kohsuke.stapler.Stapler;
 
@@ -21,12 +22,31 @@ public class ConfigurationContext implements ConfiguratorRegistry {
     public static final String CASC_YAML_CODE_POINT_LIMIT_PROPERTY = "casc.yaml.code_point_limit";
     public static final String CASC_MERGE_STRATEGY_ENV = "CASC_MERGE_STRATEGY";
     public static final String CASC_MERGE_STRATEGY_PROPERTY = "casc.merge.strategy";
+    public static final String CASC_YAML_PARSE_THREADS_ENV = "CASC_YAML_PARSE_THREADS";
+    public static final String CASC_YAML_PARSE_THREADS_PROPERTY = "casc.yaml.parse.threads";
+    public static final String CASC_FULL_APPLY_ENV = "CASC_FULL_APPLY";
+    public static final String CASC_FULL_APPLY_PROPERTY = "casc.full.apply";
+    public static final String CASC_APPLY_THREADS_ENV = "CASC_APPLY_THREADS";
+    public static final String CASC_APPLY_THREADS_PROPERTY = "casc.apply.threads";
+    public static final String CASC_SEQUENCE_THREADS_ENV = "CASC_SEQUENCE_THREADS";
+    public static final String CASC_SEQUENCE_THREADS_PROPERTY = "casc.sequence.threads";
+    public static final String CASC_SECRET_PREFETCH_THREADS_ENV = "CASC_SECRET_PREFETCH_THREADS";
+    public static final String CASC_SECRET_PREFETCH_THREADS_PROPERTY = "casc.secret.prefetch.threads";
+    public static final String CASC_SECRET_PREFETCH_TIMEOUT_ENV = "CASC_SECRET_PREFETCH_TIMEOUT";
+    public static final String CASC_SECRET_PREFETCH_TIMEOUT_PROPERTY = "casc.secret.prefetch.timeout";
     private Deprecation deprecation = Deprecation.reject;
     private Restriction restriction = Restriction.reject;
     private Unknown unknown = Unknown.reject;
     private String mergeStrategy;
     private final transient int yamlMaxAliasesForCollections;
     private final transient int yamlCodePointLimit;
+    private final transient int yamlParseThreads;
+    private final transient boolean fullApply;
+    private final transient int applyThreads;
+    private final transient int sequenceThreads;
+    private final transient int secretPrefetchThreads;
+    private final transient int secretPrefetchTimeout;
+    private transient ForkJoinPool sequencePool;
 
     /**
      * the model-introspection model to be applied by configuration-as-code.
@@ -54,6 +74,17 @@ public class ConfigurationContext implements ConfiguratorRegistry {
         yamlMaxAliasesForCollections = NumberUtils.toInt(prop, 50);
         prop = getPropertyOrEnv(CASC_YAML_CODE_POINT_LIMIT_ENV, CASC_YAML_CODE_POINT_LIMIT_PROPERTY);
         yamlCodePointLimit = NumberUtils.toInt(prop, 3) * 1024 * 1024;
+        prop = getPropertyOrEnv(CASC_YAML_PARSE_THREADS_ENV, CASC_YAML_PARSE_THREADS_PROPERTY);
+        yamlParseThreads = Math.max(1, NumberUtils.toInt(prop, 1));
+        fullApply = Boolean.parseBoolean(getPropertyOrEnv(CASC_FULL_APPLY_ENV, CASC_FULL_APPLY_PROPERTY));
+        prop = getPropertyOrEnv(CASC_APPLY_THREADS_ENV, CASC_APPLY_THREADS_PROPERTY);
+        applyThreads = Math.max(1, NumberUtils.toInt(prop, 1));
+        prop = getPropertyOrEnv(CASC_SEQUENCE_THREADS_ENV, CASC_SEQUENCE_THREADS_PROPERTY);
+        sequenceThreads = Math.max(1, NumberUtils.toInt(prop, 1));
+        prop = getPropertyOrEnv(CASC_SECRET_PREFETCH_THREADS_ENV, CASC_SECRET_PREFETCH_THREADS_PROPERTY);
+        secretPrefetchThreads = Math.max(1, NumberUtils.toInt(prop, 1));
+        prop = getPropertyOrEnv(CASC_SECRET_PREFETCH_TIMEOUT_ENV, CASC_SECRET_PREFETCH_TIMEOUT_PROPERTY);
+        secretPrefetchTimeout = Math.max(1, NumberUtils.toInt(prop, 30));
         secretSourceResolver = new SecretSourceResolver(this);
         this.mergeStrategy = mergeStrategy != null
                 ? mergeStrategy
@@ -77,8 +108,11 @@ public class ConfigurationContext implements ConfiguratorRegistry {
     }
 
     public void warning(@NonNull CNode node, @NonNull String message) {
-        for (Listener listener : listeners) {
-            listener.warning(node, message);
+        // sequence elements may be configured concurrently
+        synchronized (listeners) {
+            for (Listener listener : listeners) {
+                listener.warning(node, message);
+            }
         }
     }
 
@@ -126,6 +160,66 @@ public class ConfigurationContext implements ConfiguratorRegistry {
         return yamlCodePointLimit;
     }
 
+    /**
+     * Maximum number of YAML sources read and composed concurrently before being merged.
+     * Defaults to {@code 1}, which reads sources one after another.
+     */
+    public int getYamlParseThreads() {
+        return yamlParseThreads;
+    }
+
+    /**
+     * Whether every root element is applied, even those whose configuration did not change since the last apply.
+     * Defaults to {@code false}.
+     */
+    public boolean isFullApply() {
+        return fullApply;
+    }
+
+    /**
+     * Maximum number of root elements applied concurrently, once those they depend on have been applied.
+     * Defaults to {@code 1}, which applies root elements one after another.
+     */
+    public int getApplyThreads() {
+        return applyThreads;
+    }
+
+    /**
+     * Maximum number of elements of a sequence configured concurrently, when their configurator is
+     * {@linkplain Configurator#isSideEffectFree(ConfigurationContext) side-effect free}.
+     * Defaults to {@code 1}, which configures elements one after another.
+     */
+    public int getSequenceThreads() {
+        return sequenceThreads;
+    }
+
+    /**
+     * Maximum number of secret sources queried concurrently for the secrets referenced by the configuration, before
+     * it is applied. Defaults to {@code 1}, which queries sources one after another.
+     */
+    public int getSecretPrefetchThreads() {
+        return secretPrefetchThreads;
+    }
+
+    /**
+     * Time, in seconds, a secret source queried concurrently has to reveal the secrets referenced by the
+     * configuration. Secrets it did not reveal in time are revealed one at a time while configuring.
+     * Defaults to {@code 30}.
+     */
+    public int getSecretPrefetchTimeout() {
+        return secretPrefetchTimeout;
+    }
+
+    /**
+     * Pool configuring sequence elements, shared by nested sequences. Idle workers terminate on their own.
+     */
+    synchronized ForkJoinPool getSequencePool() {
+        if (sequencePool == null) {
+            sequencePool = new ForkJoinPool(sequenceThreads);
+        }
+        return sequencePool;
+    }
+
     // --- delegate methods for ConfigurationContext
 
     @Override
@@ -0,0 +1,27 @@
+package io.jenkins.plugins.casc;
+
+import hudson.Extension;
+import hudson.XmlFile;
+import hudson.model.Run;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Makes the next reload apply every root element once the configuration has been changed by other means, such as the
+ * UI, the CLI or the script console, so that it reverts those changes. Build records and the
+ * location of the configuration do not count.
+ */
+@Extension
+@Restricted(NoExternalUse.class)
+public class ConfigurationDriftListener extends SaveableListener {
+
+    @Override
+    public void onChange(Saveable o, XmlFile file) {
+        if (o instanceof Run || o instanceof CasCGlobalConfig) {
+            return;
+        }
+        ConfigurationAsCode.get().forgetAppliedConfiguration();
+    }
+}
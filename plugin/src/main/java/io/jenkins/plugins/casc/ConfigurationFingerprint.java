@@ -0,0 +1,70 @@
+package io.jenkins.plugins.casc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.jenkins.plugins.casc.model.CNode;
+import io.jenkins.plugins.casc.model.Mapping;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.TreeSet;
+
+/**
+ * Digest of a configuration tree, with secrets resolved, used to detect root elements which did not change since
+ * they were last applied. Only the digest is kept, never the resolved values.
+ */
+final class ConfigurationFingerprint {
+
+    private ConfigurationFingerprint() {}
+
+    static String of(CNode node, ConfigurationContext context) throws ConfiguratorException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, node, context.getSecretSourceResolver());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, CNode node, SecretSourceResolver resolver)
+            throws ConfiguratorException {
+        if (node == null) {
+            digest.update((byte) '~');
+            return;
+        }
+        switch (node.getType()) {
+            case MAPPING:
+                final Mapping mapping = node.asMapping();
+                digest.update((byte) '{');
+                // mapping is a HashMap, iterate in a stable order
+                for (String key : new TreeSet<>(mapping.keySet())) {
+                    update(digest, key);
+                    update(digest, mapping.get(key), resolver);
+                }
+                digest.update((byte) '}');
+                return;
+            case SEQUENCE:
+                digest.update((byte) '[');
+                for (CNode item : node.asSequence()) {
+                    update(digest, item, resolver);
+                }
+                digest.update((byte) ']');
+                return;
+            default:
+                digest.update((byte) '=');
+                update(digest, resolver.resolve(node.asScalar().toString()));
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        final byte[] bytes = value != null ? value.getBytes(UTF_8) : new byte[0];
+        // length prefix, so that adjacent values cannot be confused
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+}
@@ -172,6 +172,17 @@ public interface Configurator<T> {
      */
     T check(CNode config, ConfigurationContext context) throws ConfiguratorException;
 
+    /**
+     * Whether {@link #configure(CNode, ConfigurationContext)} and {@link #check(CNode, ConfigurationContext)} only
+     * build a new component from the configuration, without changing anything else, including through the
+     * configurators of nested attributes. Elements of a sequence handled by such a configurator can be configured
+     * concurrently.
+     * @see ConfigurationContext#getSequenceThreads()
+     */
+    default boolean isSideEffectFree(ConfigurationContext context) {
+        return false;
+    }
+
     /**
      * Describe a component as a Configuration Nodes {@link CNode} to be exported as yaml.
      * Only export attributes which are <b>not</b> set to default value.
@@ -0,0 +1,206 @@
+package io.jenkins.plugins.casc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the content of files read by {@code file} and {@code fileBase64} lookups, such as certificates referenced many
+ * times, so that each one is read once per reload as long as it does not change.
+ * <p>
+ * Files are identified by path, modification time, size and file key. The directories of cached files are also
+ * watched, when the file system supports it, so that entries are dropped as soon as a file is replaced, even within the
+ * resolution of modification times. As contents may be key material, they are dropped along with the secrets revealed
+ * for a reload when it ends, or after {@value #EXPIRY_MINUTES} minutes without use otherwise. The cache is bounded by
+ * the total size of the cached files, set in bytes through the {@value #MAX_BYTES_PROPERTY} system property. {@code 0}
+ * disables it. Files larger than a quarter of it are read each time without being cached.
+ */
+final class FileContentCache {
+
+    private static final Logger LOGGER = Logger.getLogger(FileContentCache.class.getName());
+
+    static final String MAX_BYTES_PROPERTY = "casc.file.cache.maxBytes";
+
+    private static final long MAX_BYTES = Long.getLong(MAX_BYTES_PROPERTY, 16L * 1024 * 1024);
+
+    private static final long EXPIRY_MINUTES = 5;
+
+    private static final Cache<Key, byte[]> CACHE = Caffeine.newBuilder()
+            .maximumWeight(Math.max(MAX_BYTES, 0))
+            .weigher((Key key, byte[] content) -> Math.max(content.length, 1))
+            .expireAfterAccess(EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .removalListener((Key key, byte[] content, RemovalCause cause) -> {
+                if (key != null) {
+                    unwatchIfUnused(key.path().getParent());
+                }
+            })
+            .build();
+
+    /**
+     * Number of changes reported by the watcher so far.
+     */
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+
+    /**
+     * Directories watched for changes, as long as they have cached files.
+     */
+    private static final Map<Path, WatchKey> WATCHED = new ConcurrentHashMap<>();
+
+    private static WatchService watcher;
+
+    private static boolean unwatchable;
+
+    private FileContentCache() {}
+
+    /**
+     * Read a file, or reuse its content if it has not changed since it was last read.
+     *
+     * @return the content of the file, which must not be modified as it may be shared
+     */
+    static byte[] read(Path path) throws IOException {
+        if (MAX_BYTES <= 0) {
+            return Files.readAllBytes(path);
+        }
+        final Path absolute = path.toAbsolutePath();
+        final BasicFileAttributes attributes = Files.readAttributes(absolute, BasicFileAttributes.class);
+        if (attributes.size() > MAX_BYTES / 4) {
+            return Files.readAllBytes(absolute);
+        }
+        final Key key = new Key(
+                absolute, attributes.lastModifiedTime() + "/" + attributes.size() + "/" + attributes.fileKey());
+        final byte[] cached = CACHE.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        watch(absolute.getParent());
+        final long invalidations = INVALIDATIONS.get();
+        final byte[] content = Files.readAllBytes(absolute);
+        // a file changed while being read is only cached once read again
+        if (content.length == attributes.size()
+                && attributes.lastModifiedTime().equals(Files.getLastModifiedTime(absolute))) {
+            CACHE.put(key, content);
+            // changes seen while reading may not be detected by the attributes
+            if (INVALIDATIONS.get() != invalidations) {
+                CACHE.invalidate(key);
+            }
+            // the directory is no longer watched if its other entries were dropped in the meantime
+            watch(absolute.getParent());
+        }
+        return content;
+    }
+
+    /**
+     * Read a text file encoded in UTF-8, as {@link #read(Path)} does.
+     */
+    static String readString(Path path) throws IOException {
+        return new String(read(path), UTF_8);
+    }
+
+    /**
+     * Forget every file, and stop watching their directories.
+     */
+    static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    static boolean isWatched(Path directory) {
+        return WATCHED.containsKey(directory.toAbsolutePath());
+    }
+
+    private static void invalidate(Path directory) {
+        INVALIDATIONS.incrementAndGet();
+        CACHE.asMap().keySet().removeIf(key -> directory.equals(key.path().getParent()));
+    }
+
+    /**
+     * Start watching a directory, unless it already is or the file system does not allow it.
+     */
+    private static void watch(Path directory) {
+        if (directory == null || WATCHED.containsKey(directory)) {
+            return;
+        }
+        synchronized (FileContentCache.class) {
+            if (unwatchable || WATCHED.containsKey(directory)) {
+                return;
+            }
+            try {
+                if (watcher == null) {
+                    watcher = FileSystems.getDefault().newWatchService();
+                    new NamingThreadFactory(new DaemonThreadFactory(), "CasC file content watcher")
+                            .newThread(FileContentCache::run)
+                            .start();
+                }
+                WATCHED.put(
+                        directory,
+                        directory.register(
+                                watcher,
+                                StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_DELETE,
+                                StandardWatchEventKinds.ENTRY_MODIFY));
+            } catch (IOException | UnsupportedOperationException e) {
+                // modification times and sizes still tell changed files apart
+                LOGGER.log(Level.FINE, "Cannot watch " + directory + " for changes", e);
+                if (watcher == null) {
+                    unwatchable = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop watching a directory once none of its files are cached.
+     */
+    private static void unwatchIfUnused(@CheckForNull Path directory) {
+        if (directory == null) {
+            return;
+        }
+        synchronized (FileContentCache.class) {
+            if (CACHE.asMap().keySet().stream().anyMatch(key -> directory.equals(key.path().getParent()))) {
+                return;
+            }
+            final WatchKey key = WATCHED.remove(directory);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+    }
+
+    private static void run() {
+        try {
+            while (true) {
+                final WatchKey key = watcher.take();
+                final Path directory = (Path) key.watchable();
+                key.pollEvents();
+                invalidate(directory);
+                if (!key.reset()) {
+                    WATCHED.remove(directory, key);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            LOGGER.log(Level.FINE, "Stopped watching files for changes", e);
+        }
+    }
+
+    private record Key(Path path, String fingerprint) {}
+}
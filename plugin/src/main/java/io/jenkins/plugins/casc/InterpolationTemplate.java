@@ -0,0 +1,198 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.text.lookup.StringLookup;
+
+/**
+ * A scalar parsed once into literal and variable segments, so that resolving it again only looks up and concatenates
+ * values.
+ * <p>
+ * Resolution gives the same result as the two {@link org.apache.commons.text.StringSubstitutor} passes of
+ * {@link SecretSourceResolver}: variables are substituted, variables in variables included, escaped variables
+ * ({@code ^${}) are kept without their escape character, and variables left unresolved are handed to a separate
+ * lookup. Scalars or values which those passes would interpret further, such as a value containing a variable, are
+ * not supported, and resolving them is left to the substitutors.
+ */
+final class InterpolationTemplate {
+
+    private static final String PREFIX = "${";
+    private static final char SUFFIX = '}';
+    private static final char ESCAPE = '^';
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+
+    private record Variable(InterpolationTemplate name, String text) {}
+
+    private record Unresolved(int offset, String key) {}
+
+    /**
+     * Literal strings and {@link Variable}s.
+     */
+    private final List<Object> segments;
+
+    private final boolean nested;
+
+    private InterpolationTemplate(List<Object> segments) {
+        this.segments = segments;
+        this.nested = segments.stream().anyMatch(Variable.class::isInstance);
+    }
+
+    /**
+     * @return the template of the given scalar, or {@code null} if it is not supported
+     */
+    @CheckForNull
+    static InterpolationTemplate compile(String text) {
+        return parse(text, 0, text.length(), true);
+    }
+
+    @CheckForNull
+    private static InterpolationTemplate parse(String text, int from, int to, boolean top) {
+        final List<Object> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int pos = from;
+        while (pos < to) {
+            if (!text.startsWith(PREFIX, pos)) {
+                literal.append(text.charAt(pos++));
+                continue;
+            }
+            if (pos > from && text.charAt(pos - 1) == ESCAPE) {
+                if (!top) {
+                    // escapes are preserved in variable names
+                    return null;
+                }
+                literal.setLength(literal.length() - 1);
+                literal.append(PREFIX);
+                pos += PREFIX.length();
+                continue;
+            }
+            final int end = end(text, pos + PREFIX.length(), to);
+            if (end < 0) {
+                // the substitutor stops at the first unterminated variable
+                return null;
+            }
+            final InterpolationTemplate name = parse(text, pos + PREFIX.length(), end, false);
+            if (name == null) {
+                return null;
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(new Variable(name, text.substring(pos + PREFIX.length(), end)));
+            pos = end + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return new InterpolationTemplate(segments);
+    }
+
+    /**
+     * Position of the suffix closing a variable, skipping nested variables, or {@code -1}.
+     */
+    private static int end(String text, int pos, int to) {
+        int nesting = 0;
+        while (pos < to) {
+            if (text.startsWith(PREFIX, pos)) {
+                nesting++;
+                pos += PREFIX.length();
+            } else if (text.charAt(pos) == SUFFIX) {
+                if (nesting == 0) {
+                    return pos;
+                }
+                nesting--;
+                pos++;
+            } else {
+                pos++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param lookup resolves variables, by name
+     * @param unresolved provides the value of variables {@code lookup} could not resolve, which have no default value
+     * @return the resolved scalar, or {@code null} if the values looked up are not supported
+     */
+    @CheckForNull
+    String resolve(StringLookup lookup, StringLookup unresolved) {
+        final StringBuilder out = new StringBuilder();
+        final List<Unresolved> missing = new ArrayList<>(0);
+        if (!evaluate(out, lookup, missing)) {
+            return null;
+        }
+        if (missing.isEmpty()) {
+            return out.toString();
+        }
+        // unresolved variables are only handled once all others have been looked up, as the second pass would
+        final String[] values = new String[missing.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = unresolved.lookup(missing.get(i).key());
+        }
+        for (int i = values.length - 1; i >= 0; i--) {
+            out.insert(missing.get(i).offset(), values[i]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * @param missing where to record unresolved variables, or {@code null} in variable names, where they are kept as is
+     * @return whether the outcome is the one of the substitutors
+     */
+    private boolean evaluate(StringBuilder out, StringLookup lookup, @CheckForNull List<Unresolved> missing) {
+        // last character the substitutor would have in its buffer
+        char last = 0;
+        for (Object segment : segments) {
+            if (segment instanceof String literal) {
+                if (last == '$' && literal.charAt(0) == '{') {
+                    return false;
+                }
+                out.append(literal);
+                last = literal.charAt(literal.length() - 1);
+                continue;
+            }
+            final Variable variable = (Variable) segment;
+            if (last == ESCAPE) {
+                // the value before would escape this variable
+                return false;
+            }
+
+            final StringBuilder expression = new StringBuilder();
+            if (!variable.name().evaluate(expression, lookup, null)) {
+                return false;
+            }
+            String name = expression.toString();
+            String defaultValue = null;
+            final int delimiter = name.indexOf(DEFAULT_VALUE_DELIMITER);
+            if (delimiter >= 0) {
+                defaultValue = name.substring(delimiter + DEFAULT_VALUE_DELIMITER.length());
+                name = name.substring(0, delimiter);
+            }
+            String value = lookup.lookup(name);
+            if (value == null) {
+                value = defaultValue;
+            }
+
+            if (value == null) {
+                if (missing == null) {
+                    out.append(PREFIX).append(variable.text()).append(SUFFIX);
+                } else if (variable.name().nested) {
+                    return false;
+                } else {
+                    missing.add(new Unresolved(out.length(), variable.text()));
+                }
+                last = SUFFIX;
+                continue;
+            }
+            if (value.contains(PREFIX) || (last == '$' && value.startsWith("{"))) {
+                return false;
+            }
+            out.append(value);
+            if (!value.isEmpty()) {
+                last = value.charAt(value.length() - 1);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,314 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.AtmostOneThreadExecutor;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Applies configuration changes one at a time, whatever triggers them.
+ * <p>
+ * Reloads of the configuration sources are coalesced: a reload requested while another one is waiting to run joins
+ * it, and all of its callers get the same result. A reload already running is never joined, so that changes made to
+ * the sources meanwhile are applied by the next one. Other changes, such as applying a given configuration, are only
+ * serialized.
+ * <p>
+ * Operations run in the thread of one of their callers, which makes nested calls from the same thread safe, or on a
+ * dedicated thread when {@linkplain #submit(Operation) submitted}. The most recent ones can be
+ * {@linkplain #get(long) looked up} by id to follow their progress.
+ */
+@Restricted(NoExternalUse.class)
+public final class ReloadCoordinator {
+
+    /**
+     * A change to the configuration.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        void apply() throws ConfiguratorException;
+    }
+
+    public enum Phase {
+        /** Waiting for a running operation to complete. */
+        QUEUED,
+        /** Reading and checking the configuration. */
+        LOADING,
+        /** Applying root elements. */
+        APPLYING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    /**
+     * A requested configuration change, shared by every caller it has been coalesced with.
+     */
+    public static final class Reload {
+
+        private final long id;
+        private final Operation operation;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final long requestedAt = System.currentTimeMillis();
+        private final AtomicInteger applied = new AtomicInteger();
+        private volatile Phase phase = Phase.QUEUED;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private volatile int total;
+        private volatile Throwable failure;
+
+        private Reload(long id, Operation operation) {
+            this.id = id;
+            this.operation = operation;
+        }
+
+        /**
+         * Identifier of this reload, increasing with each request.
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Completes once this reload has been applied, exceptionally if it failed.
+         */
+        public Future<Void> getFuture() {
+            return result.copy();
+        }
+
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        /**
+         * Number of root elements applied so far.
+         */
+        public int getApplied() {
+            return applied.get();
+        }
+
+        /**
+         * Number of root elements to apply, known once {@link Phase#APPLYING} is reached.
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        public long getRequestedAt() {
+            return requestedAt;
+        }
+
+        /**
+         * @return when this reload started running, or {@code 0}
+         */
+        public long getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * @return when this reload completed, or {@code 0}
+         */
+        public long getFinishedAt() {
+            return finishedAt;
+        }
+
+        /**
+         * Error which made this reload fail, if any.
+         */
+        @CheckForNull
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        private void finish(Phase phase, @CheckForNull Throwable failure) {
+            this.failure = failure;
+            this.finishedAt = System.currentTimeMillis();
+            this.phase = phase;
+            if (failure == null) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+
+        /**
+         * Wait for this reload to be applied.
+         * @throws ConfiguratorException the error which made it fail
+         */
+        public void join() throws ConfiguratorException {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConfiguratorException("Interrupted while waiting for reload " + id, e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new ConfiguratorException("Reload " + id + " failed", cause);
+            }
+        }
+    }
+
+    /**
+     * Number of completed operations kept for lookup.
+     */
+    private static final int HISTORY = 50;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private final Map<Long, Reload> recent = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Reload> eldest) {
+            return size() > HISTORY;
+        }
+    };
+
+    /**
+     * Runs submitted operations one at a time, on a thread which exits once idle.
+     */
+    private final ExecutorService executor =
+            new AtmostOneThreadExecutor(new NamingThreadFactory(new DaemonThreadFactory(), "CasC reload"));
+
+    /**
+     * Operation currently running.
+     */
+    private volatile Reload running;
+
+    /**
+     * Held while an operation runs.
+     */
+    private final ReentrantLock writer = new ReentrantLock(true);
+
+    /**
+     * Reload requested but not started yet, which new reload requests join.
+     */
+    private Reload pending;
+
+    /**
+     * Request a reload, joining the one waiting to run if any. The reload is not run, see {@link #run(Reload)}.
+     */
+    public synchronized Reload request(Operation operation) {
+        if (pending == null) {
+            pending = newReload(operation);
+        }
+        return pending;
+    }
+
+    /**
+     * Request a reload, as {@link #request(Operation)} does, and run it on a dedicated thread with the authentication
+     * of the caller.
+     */
+    public Reload submit(Operation operation) {
+        final Reload reload = request(operation);
+        final Authentication authentication = Jenkins.getAuthentication2();
+        executor.execute(() -> {
+            try (ACLContext ignored = ACL.as2(authentication)) {
+                run(reload);
+            }
+        });
+        return reload;
+    }
+
+    /**
+     * One of the most recent operations.
+     */
+    @CheckForNull
+    public synchronized Reload get(long id) {
+        return recent.get(id);
+    }
+
+    private synchronized Reload newReload(Operation operation) {
+        final Reload reload = new Reload(ids.incrementAndGet(), operation);
+        recent.put(reload.id, reload);
+        return reload;
+    }
+
+    /**
+     * Run a requested reload, once any running operation completes, unless another caller already ran it.
+     */
+    public Reload run(Reload reload) {
+        writer.lock();
+        try {
+            synchronized (this) {
+                if (pending == reload) {
+                    pending = null;
+                }
+            }
+            if (!reload.isDone()) {
+                final Reload previous = running;
+                running = reload;
+                reload.startedAt = System.currentTimeMillis();
+                reload.phase = Phase.LOADING;
+                try {
+                    reload.operation.apply();
+                    reload.finish(Phase.SUCCEEDED, null);
+                } catch (Throwable t) {
+                    reload.finish(Phase.FAILED, t);
+                } finally {
+                    running = previous;
+                }
+            }
+        } finally {
+            writer.unlock();
+        }
+        return reload;
+    }
+
+    /**
+     * Report that the running operation starts applying root elements.
+     */
+    void applying(int total) {
+        final Reload reload = running;
+        if (reload != null) {
+            reload.total = total;
+            reload.phase = Phase.APPLYING;
+        }
+    }
+
+    /**
+     * Report that the running operation applied a root element.
+     */
+    void applied() {
+        final Reload reload = running;
+        if (reload != null) {
+            reload.applied.incrementAndGet();
+        }
+    }
+
+    /**
+     * Request a reload and run it, possibly as part of a reload requested by another caller.
+     */
+    public Reload reload(Operation operation) {
+        return run(request(operation));
+    }
+
+    /**
+     * Run an operation which must not be coalesced with any other, once any running operation completes.
+     */
+    public Reload apply(Operation operation) {
+        return run(newReload(operation));
+    }
+}
@@ -1,15 +1,10 @@
 package io.jenkins.plugins.casc;
 
-import hudson.model.Descriptor;
-import hudson.model.ManagementLink;
-import io.jenkins.plugins.casc.impl.configurators.DescriptorConfigurator;
-import io.jenkins.plugins.casc.impl.configurators.GlobalConfigurationCategoryConfigurator;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.logging.Level;
+import java.util.Set;
 import java.util.logging.Logger;
-import jenkins.model.GlobalConfigurationCategory;
-import jenkins.model.Jenkins;
 
 /**
  * Define a {@link Configurator} which handles a root configuration element, identified by name.
@@ -20,36 +15,11 @@ public interface RootElementConfigurator<T> extends Configurator<T> {
 
     Logger LOGGER = Logger.getLogger(RootElementConfigurator.class.getName());
 
+    /**
+     * All root element configurators, sorted by ordinal. They are computed once, until extensions change.
+     */
     static List<RootElementConfigurator> all() {
-        final Jenkins jenkins = Jenkins.get();
-        List<RootElementConfigurator> configurators =
-                new ArrayList<>(jenkins.getExtensionList(RootElementConfigurator.class));
-
-        for (GlobalConfigurationCategory category : GlobalConfigurationCategory.all()) {
-            configurators.add(new GlobalConfigurationCategoryConfigurator(category));
-        }
-
-        for (ManagementLink link : ManagementLink.all()) {
-            try {
-                final String name = link.getUrlName();
-                if (name != null && !name.isEmpty()) {
-                    final Descriptor descriptor = Jenkins.get().getDescriptor(name);
-                    if (descriptor != null) {
-                        configurators.add(new DescriptorConfigurator(descriptor));
-                    }
-                }
-            } catch (Exception | LinkageError e) {
-                LOGGER.log(
-                        Level.WARNING,
-                        "Failed to load configuration for ManagementLink: "
-                                + link.getClass().getName() + ". Skipping.",
-                        e);
-            }
-        }
-
-        configurators.sort(Configurator.extensionOrdinalSort());
-
-        return configurators;
+        return new ArrayList<>(RootElementConfigurators.all());
     }
 
     /* This function is used for configurator-pointer in the documentation.jelly file only. */
@@ -57,6 +27,15 @@ public interface RootElementConfigurator<T> extends Configurator<T> {
         return true;
     }
 
+    /**
+     * Names of the root elements which must be applied before this one, when root elements are applied concurrently.
+     * Root elements with a higher ordinal are always applied first.
+     * @see ConfigurationContext#getApplyThreads()
+     */
+    default Set<String> dependsOn() {
+        return Collections.emptySet();
+    }
+
     /**
      * Retrieve the target component managed by this RootElementConfigurator
      * @return
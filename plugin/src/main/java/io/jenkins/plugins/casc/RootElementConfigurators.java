@@ -0,0 +1,119 @@
+package io.jenkins.plugins.casc;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.ExtensionListListener;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Descriptor;
+import hudson.model.ManagementLink;
+import io.jenkins.plugins.casc.impl.configurators.DescriptorConfigurator;
+import io.jenkins.plugins.casc.impl.configurators.GlobalConfigurationCategoryConfigurator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import jenkins.model.GlobalConfigurationCategory;
+import jenkins.model.Jenkins;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+
+/**
+ * Keeps the {@link RootElementConfigurator}s computed by {@link RootElementConfigurator#all()}, indexed by their
+ * lower-cased name, until the extensions they are built from change.
+ */
+@Restricted(NoExternalUse.class)
+public final class RootElementConfigurators {
+
+    @CheckForNull
+    private static volatile Roots roots;
+
+    private RootElementConfigurators() {}
+
+    /**
+     * Root element configurators, sorted by ordinal. The list must not be modified.
+     */
+    static List<RootElementConfigurator> all() {
+        return roots().all();
+    }
+
+    /**
+     * Find a root element configurator by name, ignoring case.
+     */
+    @CheckForNull
+    public static RootElementConfigurator lookup(String name) {
+        return name != null ? roots().byName().get(name.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    private static Roots roots() {
+        final Jenkins jenkins = Jenkins.get();
+        Roots r = roots;
+        if (r == null || r.jenkins() != jenkins) {
+            final List<RootElementConfigurator> all = compute();
+            final Map<String, RootElementConfigurator> byName = new HashMap<>();
+            for (RootElementConfigurator configurator : all) {
+                // first one in ordinal order wins, as it would when searching the list
+                byName.putIfAbsent(configurator.getName().toLowerCase(Locale.ROOT), configurator);
+            }
+            r = new Roots(jenkins, Collections.unmodifiableList(all), byName);
+            roots = r;
+        }
+        return r;
+    }
+
+    private static List<RootElementConfigurator> compute() {
+        final Jenkins jenkins = Jenkins.get();
+        List<RootElementConfigurator> configurators =
+                new ArrayList<>(jenkins.getExtensionList(RootElementConfigurator.class));
+
+        for (GlobalConfigurationCategory category : GlobalConfigurationCategory.all()) {
+            configurators.add(new GlobalConfigurationCategoryConfigurator(category));
+        }
+
+        for (ManagementLink link : ManagementLink.all()) {
+            try {
+                final String name = link.getUrlName();
+                if (name != null && !name.isEmpty()) {
+                    final Descriptor descriptor = Jenkins.get().getDescriptor(name);
+                    if (descriptor != null) {
+                        configurators.add(new DescriptorConfigurator(descriptor));
+                    }
+                }
+            } catch (Exception | LinkageError e) {
+                RootElementConfigurator.LOGGER.log(
+                        Level.WARNING,
+                        "Failed to load configuration for ManagementLink: "
+                                + link.getClass().getName() + ". Skipping.",
+                        e);
+            }
+        }
+
+        configurators.sort(Configurator.extensionOrdinalSort());
+
+        return configurators;
+    }
+
+    /**
+     * Forget root element configurators when extensions change, typically when a plugin is loaded dynamically.
+     */
+    @Initializer(after = InitMilestone.EXTENSIONS_AUGMENTED)
+    public static void invalidateOnExtensionsChange() {
+        final ExtensionListListener listener = new ExtensionListListener() {
+            @Override
+            public void onChange() {
+                roots = null;
+            }
+        };
+        final Jenkins jenkins = Jenkins.get();
+        jenkins.getExtensionList(RootElementConfigurator.class).addListener(listener);
+        jenkins.getExtensionList(GlobalConfigurationCategory.class).addListener(listener);
+        jenkins.getExtensionList(ManagementLink.class).addListener(listener);
+        jenkins.getExtensionList(Descriptor.class).addListener(listener);
+        roots = null;
+    }
+
+    private record Roots(
+            Jenkins jenkins, List<RootElementConfigurator> all, Map<String, RootElementConfigurator> byName) {}
+}
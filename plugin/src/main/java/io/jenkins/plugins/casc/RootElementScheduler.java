@@ -0,0 +1,178 @@
+package io.jenkins.plugins.casc;
+
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import io.jenkins.plugins.casc.model.CNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Applies root elements concurrently, as allowed by their ordering constraints.
+ * <p>
+ * A root element starts once every root element with a higher {@link hudson.Extension#ordinal()} has been applied,
+ * so {@code configuration-as-code} and {@code jenkins} still come first, and once those it
+ * {@linkplain RootElementConfigurator#dependsOn() depends on} have been applied. Root elements run with the
+ * authentication of the caller.
+ * <p>
+ * A failure does not interrupt root elements already running, nor independent ones, but those depending on it are
+ * skipped. The failure reported is the one of the first root element in sequential order, whatever the timing.
+ */
+final class RootElementScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(RootElementScheduler.class.getName());
+
+    private final List<RootElementConfigurator> configurators;
+    private final List<CNode> nodes;
+
+    /**
+     * @param configurators root element configurators, in sequential order
+     * @param nodes configuration of each of them
+     */
+    RootElementScheduler(List<RootElementConfigurator> configurators, List<CNode> nodes) {
+        this.configurators = configurators;
+        this.nodes = nodes;
+    }
+
+    void apply(ConfigurationAsCode.ConfiguratorOperation operation, int threads) throws ConfiguratorException {
+        final List<Set<Integer>> dependencies = dependencies();
+        final List<Integer> order = topologicalOrder(dependencies);
+
+        final Authentication authentication = Jenkins.getAuthentication2();
+        final Throwable[] failures = new Throwable[configurators.size()];
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Void>[] futures = new CompletableFuture[configurators.size()];
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                threads, new NamingThreadFactory(new DaemonThreadFactory(), "CasC root element apply"));
+        try {
+            for (int i : order) {
+                final CompletableFuture<?>[] before =
+                        dependencies.get(i).stream().map(d -> futures[d]).toArray(CompletableFuture[]::new);
+                final RootElementConfigurator configurator = configurators.get(i);
+                final CNode node = nodes.get(i);
+                final int index = i;
+                futures[i] = CompletableFuture.allOf(before).thenRunAsync(
+                        () -> {
+                            try (ACLContext ignored = ACL.as2(authentication)) {
+                                operation.apply(configurator, node);
+                            } catch (Throwable t) {
+                                failures[index] = t;
+                                throw new CompletionException(t);
+                            }
+                        },
+                        executor);
+            }
+
+            try {
+                CompletableFuture.allOf(futures).get();
+            } catch (ExecutionException e) {
+                // reported below, in sequential order
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfiguratorException("Interrupted while applying root elements", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < failures.length; i++) {
+            final Throwable failure = failures[i];
+            if (failure == null) {
+                continue;
+            }
+            if (failure instanceof ConfiguratorException ce) {
+                throw ce;
+            }
+            if (failure instanceof RuntimeException re) {
+                throw re;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new ConfiguratorException(configurators.get(i), "Failed to apply " + name(i), failure);
+        }
+    }
+
+    /**
+     * Indices of the root elements each one must wait for.
+     */
+    private List<Set<Integer>> dependencies() {
+        final Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < configurators.size(); i++) {
+            byName.putIfAbsent(name(i), i);
+        }
+
+        final List<Set<Integer>> dependencies = new ArrayList<>(configurators.size());
+        for (int i = 0; i < configurators.size(); i++) {
+            final Set<Integer> before = new LinkedHashSet<>();
+            final double ordinal = Configurator.extractExtensionOrdinal(configurators.get(i));
+            for (int j = 0; j < configurators.size(); j++) {
+                if (Configurator.extractExtensionOrdinal(configurators.get(j)) > ordinal) {
+                    before.add(j);
+                }
+            }
+            for (String dependency : configurators.get(i).dependsOn()) {
+                final Integer j = byName.get(dependency.toLowerCase(Locale.ROOT));
+                if (j != null && j != i) {
+                    before.add(j);
+                } else if (j == null) {
+                    LOGGER.log(Level.FINE, "{0} depends on {1}, which is not configured", new Object[] {
+                        name(i), dependency
+                    });
+                }
+            }
+            dependencies.add(before);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Order in which root elements can be scheduled, each one after those it depends on.
+     */
+    private List<Integer> topologicalOrder(List<Set<Integer>> dependencies) throws ConfiguratorException {
+        final List<Integer> order = new ArrayList<>(dependencies.size());
+        final int[] state = new int[dependencies.size()]; // 0 = new, 1 = visiting, 2 = done
+        for (int i = 0; i < dependencies.size(); i++) {
+            visit(i, dependencies, state, order, new ArrayList<>());
+        }
+        return order;
+    }
+
+    private void visit(int i, List<Set<Integer>> dependencies, int[] state, List<Integer> order, List<String> path)
+            throws ConfiguratorException {
+        if (state[i] == 2) {
+            return;
+        }
+        path.add(name(i));
+        if (state[i] == 1) {
+            throw new ConfiguratorException("Circular dependency between root elements: " + String.join(" -> ", path));
+        }
+        state[i] = 1;
+        for (int j : dependencies.get(i)) {
+            visit(j, dependencies, state, order, path);
+        }
+        state[i] = 2;
+        path.remove(path.size() - 1);
+        order.add(i);
+    }
+
+    private String name(int i) {
+        return configurators.get(i).getName().toLowerCase(Locale.ROOT);
+    }
+}
@@ -36,7 +36,7 @@ public class SchemaGeneration {
 
         JSONObject rootConfiguratorProperties = new JSONObject();
         JSONObject definitions = new JSONObject();
-        for (RootElementConfigurator rootElementConfigurator : RootElementConfigurator.all()) {
+        for (RootElementConfigurator rootElementConfigurator : RootElementConfigurators.all()) {
             JSONObject schemaConfiguratorObjects = new JSONObject();
             Set<Object> elements = new LinkedHashSet<>();
             listElements(elements, rootElementConfigurator.describe(), context, true);
@@ -3,8 +3,11 @@ package io.jenkins.plugins.casc;
 import hudson.ExtensionPoint;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import jenkins.model.Jenkins;
 
 /**
@@ -40,6 +43,29 @@ public abstract class SecretSource implements ExtensionPoint {
      */
     public abstract Optional<String> reveal(String secret) throws IOException;
 
+    /**
+     * Reveal the plaintext values of several secrets at once, before configuration starts.
+     * Sources backed by a remote store can override it to fetch them in a single round trip.
+     * The default implementation calls {@link #reveal(String)} for each secret.
+     *
+     * @param secrets the variable references to reveal
+     *
+     * @return the value of each secret found, by variable reference. Secrets which are not found are left out.
+     *
+     * @throws IOException if an unrecoverable error occurred, as for {@link #reveal(String)}. Secrets are then
+     * revealed one at a time as configuration needs them.
+     */
+    public Map<String, String> revealAll(Set<String> secrets) throws IOException {
+        final Map<String, String> revealed = new HashMap<>();
+        for (String secret : secrets) {
+            final Optional<String> value = reveal(secret);
+            if (value.isPresent()) {
+                revealed.put(secret, value.get());
+            }
+        }
+        return revealed;
+    }
+
     public static List<SecretSource> all() {
         return new ArrayList<>(Jenkins.get().getExtensionList(SecretSource.class));
     }
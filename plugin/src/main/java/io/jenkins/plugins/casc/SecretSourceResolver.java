@@ -4,22 +4,44 @@ import static io.vavr.API.unchecked;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import io.jenkins.plugins.casc.model.CNode;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import jenkins.model.Jenkins;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
 import org.apache.commons.text.lookup.StringLookup;
 import org.json.JSONObject;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.DoNotUse;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.springframework.security.core.Authentication;
 
 /**
  * Resolves secret variables and converts escaped internal variables.
@@ -32,8 +54,23 @@ public class SecretSourceResolver {
 
     private static final Logger LOGGER = Logger.getLogger(SecretSourceResolver.class.getName());
 
+    /**
+     * Innermost variable references, which do not contain another one, unless escaped.
+     */
+    private static final Pattern VARIABLE = Pattern.compile("(?<!\\^)\\$\\{([^${}]+)}");
+
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+
     private final StringSubstitutor nullSubstitutor;
     private final StringSubstitutor substitutor;
+    private final ConfigurationContextStringLookup secrets;
+    private final StringLookup lookup;
+    private final UnresolvedLookup unresolved;
+
+    /**
+     * Templates of the scalars resolved so far, empty for those left to the substitutors.
+     */
+    private final Map<String, Optional<InterpolationTemplate>> templates = new ConcurrentHashMap<>();
 
     public SecretSourceResolver(ConfigurationContext configurationContext) {
         Map<String, StringLookup> map = Map.of(
@@ -56,19 +93,87 @@ public class SecretSourceResolver {
                 "trim",
                 TrimLookup.INSTANCE);
 
-        substitutor = new StringSubstitutor(new FixedInterpolatorStringLookup(
-                        map, new ConfigurationContextStringLookup(configurationContext)))
+        secrets = new ConfigurationContextStringLookup(configurationContext, map.keySet());
+        lookup = new FixedInterpolatorStringLookup(map, secrets);
+        unresolved = new UnresolvedLookup(UnresolvedLookup.isStrict());
+        substitutor = new StringSubstitutor(lookup)
                 .setEscapeChar(escapedWith)
                 .setVariablePrefix(enclosedBy)
                 .setVariableSuffix(enclosedIn)
                 .setEnableSubstitutionInVariables(true)
                 .setPreserveEscapes(true);
-        nullSubstitutor = new StringSubstitutor(UnresolvedLookup.INSTANCE)
+        nullSubstitutor = new StringSubstitutor(unresolved)
                 .setEscapeChar(escapedWith)
                 .setVariablePrefix(enclosedBy)
                 .setVariableSuffix(enclosedIn);
     }
 
+    /**
+     * Remember the outcome of secret lookups from now on, until {@link #clearCache()}, so that a variable used many
+     * times is revealed once per reload. Variables no secret source knows about are remembered as well.
+     */
+    @Restricted(NoExternalUse.class)
+    public void enableCache() {
+        secrets.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reveal at once the variables referenced by a configuration, through {@link SecretSource#revealAll(Set)}, so that
+     * secret sources are queried once each rather than once per variable. Only effective once
+     * {@link #enableCache()} has been called. Sources are queried in order, each for the variables not revealed by
+     * the previous ones, so the first source knowing a variable still provides its value.
+     */
+    @Restricted(NoExternalUse.class)
+    public void prefetch(CNode config) throws ConfiguratorException {
+        final Set<String> variables = new HashSet<>();
+        collectVariables(config, variables);
+        secrets.prefetch(variables);
+    }
+
+    private void collectVariables(@CheckForNull CNode node, Set<String> variables) throws ConfiguratorException {
+        if (node == null) {
+            return;
+        }
+        switch (node.getType()) {
+            case MAPPING:
+                for (CNode value : node.asMapping().values()) {
+                    collectVariables(value, variables);
+                }
+                return;
+            case SEQUENCE:
+                for (CNode item : node.asSequence()) {
+                    collectVariables(item, variables);
+                }
+                return;
+            default:
+                final String value = node.asScalar().toString();
+                if (value == null || !value.contains(enclosedBy)) {
+                    return;
+                }
+                final Matcher matcher = VARIABLE.matcher(value);
+                while (matcher.find()) {
+                    final String variable = StringUtils.substringBefore(matcher.group(1), DEFAULT_VALUE_DELIMITER);
+                    if (StringUtils.isNotBlank(variable) && !secrets.isPrefixed(variable)) {
+                        variables.add(variable);
+                    }
+                }
+        }
+    }
+
+    /**
+     * Forget the secrets revealed since {@link #enableCache()}, and stop remembering them. Contents of files read by
+     * lookups are forgotten as well.
+     */
+    @Restricted(NoExternalUse.class)
+    public void clearCache() {
+        final Map<String, Optional<String>> cache = secrets.cache;
+        secrets.cache = null;
+        if (cache != null) {
+            cache.clear();
+        }
+        FileContentCache.invalidateAll();
+    }
+
     /**
      * Encodes String so that it can be safely represented in the YAML after export.
      * @param toEncode String to encode
@@ -111,6 +216,14 @@ public class SecretSourceResolver {
         if (StringUtils.isBlank(toInterpolate) || !toInterpolate.contains(enclosedBy)) {
             return toInterpolate;
         }
+        final Optional<InterpolationTemplate> template =
+                templates.computeIfAbsent(toInterpolate, t -> Optional.ofNullable(InterpolationTemplate.compile(t)));
+        if (template.isPresent()) {
+            final String resolved = template.get().resolve(lookup, unresolved);
+            if (resolved != null) {
+                return resolved;
+            }
+        }
         String result = substitutor.replace(toInterpolate);
         result = nullSubstitutor.replace(result);
         return result;
@@ -118,19 +231,22 @@ public class SecretSourceResolver {
 
     static class UnresolvedLookup implements StringLookup {
 
-        static final UnresolvedLookup INSTANCE = new UnresolvedLookup();
-
         private static final String STRICT_MODE_ENV = "CASC_STRICT_SECRET_RESOLUTION";
         private static final String STRICT_MODE_PROP = "casc.strict.secret.resolution";
 
-        private UnresolvedLookup() {}
+        private final boolean strict;
+
+        private UnresolvedLookup(boolean strict) {
+            this.strict = strict;
+        }
+
+        static boolean isStrict() {
+            return Boolean.parseBoolean(System.getProperty(STRICT_MODE_PROP, System.getenv(STRICT_MODE_ENV)));
+        }
 
         @Override
         public String lookup(String key) {
-            boolean isStrict =
-                    Boolean.parseBoolean(System.getProperty(STRICT_MODE_PROP, System.getenv(STRICT_MODE_ENV)));
-
-            if (isStrict) {
+            if (strict) {
                 throw new IllegalStateException(
                         String.format("Unable to resolve variable '%s'. Aborting configuration reload.", key));
             }
@@ -147,12 +263,158 @@ public class SecretSourceResolver {
 
         private final ConfigurationContext context;
 
-        private ConfigurationContextStringLookup(ConfigurationContext context) {
+        /**
+         * Outcome of lookups by variable, while a reload is running.
+         */
+        @CheckForNull
+        private volatile Map<String, Optional<String>> cache;
+
+        /**
+         * Prefixes of the lookups which do not involve secret sources, such as {@code file}.
+         */
+        private final Set<String> prefixes = new HashSet<>();
+
+        private ConfigurationContextStringLookup(ConfigurationContext context, Set<String> prefixes) {
             this.context = context;
+            for (String prefix : prefixes) {
+                this.prefixes.add(FixedInterpolatorStringLookup.toKey(prefix));
+            }
+        }
+
+        private boolean isPrefixed(String variable) {
+            final int separator = variable.indexOf(':');
+            return separator >= 0
+                    && prefixes.contains(FixedInterpolatorStringLookup.toKey(variable.substring(0, separator)));
+        }
+
+        private void prefetch(Set<String> variables) {
+            final Map<String, Optional<String>> cache = this.cache;
+            if (cache == null) {
+                return;
+            }
+            final Set<String> remaining = new HashSet<>(variables);
+            remaining.removeAll(cache.keySet());
+            final List<SecretSource> sources = context.getSecretSources();
+            if (remaining.isEmpty()) {
+                return;
+            }
+            if (context.getSecretPrefetchThreads() > 1 && sources.size() > 1) {
+                prefetchConcurrently(cache, remaining, sources);
+                return;
+            }
+            for (SecretSource source : sources) {
+                if (remaining.isEmpty()) {
+                    return;
+                }
+                final Map<String, String> revealed;
+                try {
+                    revealed = source.revealAll(Collections.unmodifiableSet(new HashSet<>(remaining)));
+                } catch (IOException | RuntimeException e) {
+                    // later sources must not take precedence, leave the remaining variables to lookups
+                    LOGGER.log(
+                            Level.FINE,
+                            "Failed to reveal secrets from " + source + ", they will be revealed one at a time",
+                            e);
+                    return;
+                }
+                revealed.forEach((variable, value) -> {
+                    if (value != null && remaining.remove(variable)) {
+                        cache.putIfAbsent(variable, Optional.of(value));
+                    }
+                });
+            }
+            for (String variable : remaining) {
+                cache.putIfAbsent(variable, Optional.empty());
+            }
+        }
+
+        /**
+         * Query all sources at once for all variables, then keep the value of the first source knowing each variable.
+         * A variable is left to lookups when a source before the first one knowing it failed or timed out.
+         */
+        private void prefetchConcurrently(
+                Map<String, Optional<String>> cache, Set<String> variables, List<SecretSource> sources) {
+            final int threads = Math.min(context.getSecretPrefetchThreads(), sources.size());
+            final int timeout = context.getSecretPrefetchTimeout();
+            final Set<String> requested = Collections.unmodifiableSet(variables);
+            final Authentication authentication = Jenkins.getAuthentication2();
+            final List<CompletableFuture<Map<String, String>>> results = new ArrayList<>(sources.size());
+
+            final ExecutorService executor = Executors.newFixedThreadPool(
+                    threads, new NamingThreadFactory(new DaemonThreadFactory(), "CasC secret prefetch"));
+            try {
+                for (SecretSource source : sources) {
+                    final CompletableFuture<Map<String, String>> result = new CompletableFuture<>();
+                    results.add(result);
+                    executor.execute(() -> {
+                        // the timeout of each source starts with its query
+                        result.orTimeout(timeout, TimeUnit.SECONDS);
+                        try (ACLContext ignored = ACL.as2(authentication)) {
+                            result.complete(source.revealAll(requested));
+                        } catch (Throwable t) {
+                            result.completeExceptionally(t);
+                        }
+                    });
+                }
+                // sources waiting for a thread have not started their timeout yet
+                final long rounds = (sources.size() + threads - 1) / threads;
+                try {
+                    CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                            .get(rounds * timeout, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException | TimeoutException e) {
+                    // each source is checked below
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                final CompletableFuture<Map<String, String>> result = results.get(i);
+                if (!result.isDone() || result.isCompletedExceptionally()) {
+                    LOGGER.log(
+                            Level.FINE,
+                            "Failed to reveal secrets from {0} in time, they will be revealed one at a time",
+                            sources.get(i));
+                }
+            }
+
+            for (String variable : variables) {
+                Optional<String> value = Optional.empty();
+                for (CompletableFuture<Map<String, String>> result : results) {
+                    if (!result.isDone() || result.isCompletedExceptionally()) {
+                        // an earlier source may know the variable, or fail revealing it
+                        value = null;
+                        break;
+                    }
+                    final String revealed = result.join().get(variable);
+                    if (revealed != null) {
+                        value = Optional.of(revealed);
+                        break;
+                    }
+                }
+                if (value != null) {
+                    cache.putIfAbsent(variable, value);
+                }
+            }
         }
 
         @Override
         public String lookup(String key) {
+            final Map<String, Optional<String>> cache = this.cache;
+            if (cache == null) {
+                return reveal(key);
+            }
+            Optional<String> value = cache.get(key);
+            if (value == null) {
+                value = Optional.ofNullable(reveal(key));
+                cache.putIfAbsent(key, value);
+            }
+            return value.orElse(null);
+        }
+
+        private String reveal(String key) {
             return context.getSecretSources().stream()
                     .map(source -> unchecked(() -> source.reveal(key)).apply())
                     .flatMap(o -> o.map(Stream::of).orElseGet(Stream::empty))
@@ -187,7 +449,7 @@ public class SecretSourceResolver {
         @Override
         public String lookup(@NonNull final String key) {
             try {
-                return new String(Files.readAllBytes(Paths.get(key)), StandardCharsets.UTF_8);
+                return FileContentCache.readString(Paths.get(key));
             } catch (IOException | InvalidPathException e) {
                 LOGGER.log(
                         Level.WARNING,
@@ -227,7 +489,7 @@ public class SecretSourceResolver {
         @Override
         public String lookup(@NonNull final String key) {
             try {
-                byte[] fileContent = Files.readAllBytes(Paths.get(key));
+                byte[] fileContent = FileContentCache.read(Paths.get(key));
                 return Base64.getEncoder().encodeToString(fileContent);
             } catch (IOException | InvalidPathException e) {
                 LOGGER.log(
@@ -6,10 +6,17 @@ import hudson.model.UnprotectedRootAction;
 import hudson.security.ACL;
 import hudson.security.ACLContext;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.StaplerResponse2;
 import org.kohsuke.stapler.interceptor.RequirePOST;
@@ -22,6 +29,14 @@ public class TokenReloadAction implements UnprotectedRootAction {
     public static final String RELOAD_TOKEN_PROPERTY = "casc.reload.token";
     public static final String RELOAD_TOKEN_QUERY_PARAMETER = "casc-reload-token";
     public static final String CASC_RELOAD_TOKEN_ENV = "CASC_RELOAD_TOKEN";
+    public static final String ASYNC_QUERY_PARAMETER = "async";
+    public static final String ID_QUERY_PARAMETER = "id";
+    public static final String WAIT_QUERY_PARAMETER = "wait";
+
+    /**
+     * Longest time a status request waits for a reload to complete, in seconds.
+     */
+    private static final int MAX_WAIT = 60;
 
     @CheckForNull
     @Override
@@ -51,13 +66,20 @@ public class TokenReloadAction implements UnprotectedRootAction {
         } else {
             String requestToken = getRequestToken(request);
 
-            if (requestToken != null
-                    && MessageDigest.isEqual(
-                            token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8))) {
+            if (matches(token, requestToken)) {
                 LOGGER.info("Configuration reload triggered via token");
 
                 try (ACLContext ignored = ACL.as2(ACL.SYSTEM2)) {
-                    ConfigurationAsCode.get().configure();
+                    if (Boolean.parseBoolean(request.getParameter(ASYNC_QUERY_PARAMETER))) {
+                        ReloadCoordinator.Reload reload = ConfigurationAsCode.get().submitReload();
+                        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+                        response.setHeader(
+                                "Location",
+                                getStatusUrl(request) + "?" + ID_QUERY_PARAMETER + "=" + reload.getId());
+                        writeStatus(response, reload);
+                    } else {
+                        ConfigurationAsCode.get().configure();
+                    }
                 }
             } else {
                 response.sendError(401);
@@ -66,6 +88,94 @@ public class TokenReloadAction implements UnprotectedRootAction {
         }
     }
 
+    /**
+     * Absolute URL of {@link #doStatus}, which does not depend on how the action itself was requested.
+     */
+    private static String getStatusUrl(HttpServletRequest request) {
+        String rootUrl = Jenkins.get().getRootUrl();
+        return (rootUrl != null ? rootUrl : request.getContextPath() + "/") + URL_NAME + "/status";
+    }
+
+    /**
+     * Status of a reload triggered with {@value #ASYNC_QUERY_PARAMETER}, as JSON. With a {@value #WAIT_QUERY_PARAMETER}
+     * parameter, waits up to that many seconds for the reload to complete.
+     */
+    public void doStatus(StaplerRequest2 request, StaplerResponse2 response) throws IOException {
+        String token = getReloadToken();
+
+        if (token == null || token.isEmpty()) {
+            response.sendError(404);
+            return;
+        }
+        if (!matches(token, getRequestToken(request))) {
+            response.sendError(401);
+            LOGGER.warning("Invalid token received, not reporting reload status");
+            return;
+        }
+
+        long id = NumberUtils.toLong(request.getParameter(ID_QUERY_PARAMETER), -1);
+        ReloadCoordinator.Reload reload = ConfigurationAsCode.get().getReloadCoordinator().get(id);
+        if (reload == null) {
+            response.sendError(404);
+            return;
+        }
+
+        int wait = Math.min(MAX_WAIT, Math.max(0, NumberUtils.toInt(request.getParameter(WAIT_QUERY_PARAMETER))));
+        if (wait > 0) {
+            try {
+                reload.getFuture().get(wait, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                // reported in the status
+            }
+        }
+        writeStatus(response, reload);
+    }
+
+    private static void writeStatus(StaplerResponse2 response, ReloadCoordinator.Reload reload) throws IOException {
+        JSONObject status = new JSONObject();
+        status.put("id", reload.getId());
+        status.put("phase", reload.getPhase().name());
+        status.put("applied", reload.getApplied());
+        status.put("total", reload.getTotal());
+        status.put("requestedAt", reload.getRequestedAt());
+        status.put("startedAt", reload.getStartedAt());
+        status.put("finishedAt", reload.getFinishedAt());
+
+        Throwable failure = reload.getFailure();
+        if (failure != null) {
+            JSONObject error = new JSONObject();
+            if (failure.getCause() instanceof ConfiguratorException cause) {
+                failure = cause;
+            }
+            if (failure instanceof ConfiguratorException e) {
+                error.put("message", e.getErrorMessage());
+                if (e.getConfigurator() != null) {
+                    error.put("target", e.getConfigurator().getName());
+                } else if (e instanceof UnknownConfiguratorException unknown) {
+                    error.put("target", String.join(", ", unknown.getConfiguratorNames()));
+                }
+                if (e.getInvalidAttribute() != null) {
+                    error.put("invalidAttribute", e.getInvalidAttribute());
+                    error.put("validAttributes", e.getValidAttributes());
+                }
+            } else {
+                error.put("message", String.valueOf(failure.getMessage()));
+            }
+            status.put("error", error);
+        }
+
+        response.setContentType("application/json; charset=utf-8");
+        response.getWriter().print(status);
+    }
+
+    private static boolean matches(String token, String requestToken) {
+        return requestToken != null
+                && MessageDigest.isEqual(
+                        token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8));
+    }
+
     private String getRequestToken(HttpServletRequest request) {
         return request.getParameter(RELOAD_TOKEN_QUERY_PARAMETER);
     }
@@ -2,10 +2,14 @@ package io.jenkins.plugins.casc.impl;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.Extension;
 import hudson.ExtensionList;
+import hudson.ExtensionListListener;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
 import hudson.model.Describable;
 import hudson.model.Descriptor;
 import io.jenkins.plugins.casc.Configurable;
@@ -13,6 +17,7 @@ import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ConfiguratorException;
 import io.jenkins.plugins.casc.ConfiguratorRegistry;
 import io.jenkins.plugins.casc.RootElementConfigurator;
+import io.jenkins.plugins.casc.RootElementConfigurators;
 import io.jenkins.plugins.casc.impl.configurators.ConfigurableConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.DescriptorConfigurator;
@@ -24,8 +29,13 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import jenkins.model.Jenkins;
 import org.jvnet.tiger_types.Types;
@@ -42,15 +52,15 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
 
     private static final Logger LOGGER = Logger.getLogger(DefaultConfiguratorRegistry.class.getName());
 
+    /**
+     * Incremented on every extension change, so all registry instances notice it.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
     @Override
     @CheckForNull
     public RootElementConfigurator lookupRootElement(String name) {
-        for (RootElementConfigurator c : RootElementConfigurator.all()) {
-            if (c.getName().equalsIgnoreCase(name)) {
-                return c;
-            }
-        }
-        return null;
+        return RootElementConfigurators.lookup(name);
     }
 
     /**
@@ -62,7 +72,7 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @NonNull
     public Configurator lookupOrFail(Type type) throws ConfiguratorException {
-        Configurator configurator = cache.get(type);
+        Configurator configurator = cached(type);
         if (configurator == null) {
             throw new ConfiguratorException("Cannot find configurator for type " + type);
         }
@@ -77,22 +87,72 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
     @Override
     @CheckForNull
     public Configurator lookup(Type type) {
-        return cache.get(type);
+        return cached(type);
+    }
+
+    /**
+     * Hit and miss statistics of configurator lookups. They are kept when the cache is invalidated.
+     */
+    @NonNull
+    public CacheStats getCacheStats() {
+        return cache.stats();
     }
 
-    private LoadingCache<Type, Configurator> cache =
-            Caffeine.newBuilder().expireAfterAccess(10L, TimeUnit.SECONDS).build(type -> internalLookup(type));
+    /**
+     * Forget every configurator when extensions change, typically when a plugin is loaded dynamically.
+     */
+    @Initializer(after = InitMilestone.EXTENSIONS_AUGMENTED)
+    public static void invalidateOnExtensionsChange() {
+        final ExtensionListListener listener = new ExtensionListListener() {
+            @Override
+            public void onChange() {
+                GENERATION.incrementAndGet();
+            }
+        };
+        final Jenkins jenkins = Jenkins.get();
+        jenkins.getExtensionList(Configurator.class).addListener(listener);
+        jenkins.getExtensionList(Descriptor.class).addListener(listener);
+    }
+
+    /**
+     * Changes whenever configurators or descriptors change, for caches derived from them.
+     */
+    public static long extensionsGeneration() {
+        return GENERATION.get();
+    }
+
+    private final LoadingCache<Type, Configurator> cache =
+            Caffeine.newBuilder().recordStats().build(type -> internalLookup(type));
+
+    private volatile long generation = GENERATION.get();
+
+    @CheckForNull
+    private volatile Dispatch dispatch;
+
+    private Configurator cached(Type type) {
+        final long current = GENERATION.get();
+        if (generation != current) {
+            generation = current;
+            LOGGER.log(Level.FINE, "Extensions changed, invalidating configurators ({0})", cache.stats());
+            dispatch = null;
+            cache.invalidateAll();
+        }
+        return cache.get(type);
+    }
 
     private Configurator internalLookup(Type type) {
         Class clazz = Types.erasure(type);
 
         final Jenkins jenkins = Jenkins.get();
-        final ExtensionList<Configurator> l = jenkins.getExtensionList(Configurator.class);
-        for (Configurator c : l) {
-            if (c.canConfigure(clazz)) {
-                // this type has a dedicated Configurator implementation
-                return c;
-            }
+        Dispatch d = dispatch;
+        if (d == null) {
+            d = new Dispatch(jenkins.getExtensionList(Configurator.class));
+            dispatch = d;
+        }
+        final Configurator dedicated = d.lookup(clazz);
+        if (dedicated != null) {
+            // this type has a dedicated Configurator implementation
+            return dedicated;
         }
 
         if (Collection.class.isAssignableFrom(clazz)) {
@@ -118,7 +178,9 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
         }
 
         if (DataBoundConfigurator.getDataBoundConstructor(clazz) != null) {
-            return new DataBoundConfigurator(clazz);
+            // prefer a configurator generated at build time, which invokes the constructor and setters directly
+            final Configurator generated = DataBoundConfigurator.getGeneratedConfigurator(clazz);
+            return generated != null ? generated : new DataBoundConfigurator(clazz);
         }
 
         if (Modifier.isAbstract(clazz.getModifiers()) && Describable.class.isAssignableFrom(clazz)) {
@@ -141,4 +203,50 @@ public class DefaultConfiguratorRegistry implements ConfiguratorRegistry {
         LOGGER.warning("Configuration-as-Code can't handle type " + type);
         return null;
     }
+
+    /**
+     * Registered configurators, indexed by target for those relying on the default {@link Configurator#canConfigure}.
+     * Others are asked in turn, and the first one in extension order still wins.
+     */
+    private static final class Dispatch {
+
+        private final Map<Class<?>, Ordered> byTarget = new HashMap<>();
+        private final List<Ordered> custom = new ArrayList<>();
+
+        Dispatch(List<Configurator> configurators) {
+            int position = 0;
+            for (Configurator c : configurators) {
+                final Ordered ordered = new Ordered(position++, c);
+                if (overridesCanConfigure(c)) {
+                    custom.add(ordered);
+                } else {
+                    byTarget.putIfAbsent(c.getTarget(), ordered);
+                }
+            }
+        }
+
+        @CheckForNull
+        Configurator lookup(Class<?> clazz) {
+            Ordered found = byTarget.get(clazz);
+            for (Ordered c : custom) {
+                if (found != null && c.position() > found.position()) {
+                    break;
+                }
+                if (c.configurator().canConfigure(clazz)) {
+                    return c.configurator();
+                }
+            }
+            return found != null ? found.configurator() : null;
+        }
+
+        private static boolean overridesCanConfigure(Configurator c) {
+            try {
+                return c.getClass().getMethod("canConfigure", Class.class).getDeclaringClass() != Configurator.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    }
+
+    private record Ordered(int position, Configurator configurator) {}
 }
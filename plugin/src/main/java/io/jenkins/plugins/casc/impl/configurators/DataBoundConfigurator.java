@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -63,20 +64,87 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         return false;
     }
 
+    /**
+     * Suffix of configurators generated by the annotation processor.
+     */
+    public static final String GENERATED_SUFFIX = "_CascConfigurator";
+
+    private static final ClassValue<ConstructorPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ConstructorPlan computeValue(@NonNull Class<?> type) {
+            return ConstructorPlan.of(type);
+        }
+    };
+
+    /**
+     * Constructors of generated configurators, looked up once per class as most classes have none.
+     */
+    private static final ClassValue<Optional<Constructor<?>>> GENERATED = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(@NonNull Class<?> type) {
+            final Package p = type.getPackage();
+            final String prefix = p != null && !p.getName().isEmpty() ? p.getName() + "." : "";
+            final String name = prefix + type.getName().substring(prefix.length()).replace('$', '_') + GENERATED_SUFFIX;
+            try {
+                final Class<?> generated = Class.forName(name, true, type.getClassLoader());
+                if (!DataBoundConfigurator.class.isAssignableFrom(generated)) {
+                    LOGGER.log(Level.WARNING, "Ignoring {0} which is not a DataBoundConfigurator", generated);
+                    return Optional.empty();
+                }
+                return Optional.of(generated.getConstructor());
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Failed to load generated configurator " + name, e);
+                return Optional.empty();
+            }
+        }
+    };
+
+    /**
+     * Types whose side effects are being checked by the current thread, to stop at recursive attributes.
+     */
+    private static final ThreadLocal<Set<Class<?>>> CHECKING = ThreadLocal.withInitial(HashSet::new);
+
     private final Class<T> target;
 
+    @CheckForNull
+    private volatile Boolean sideEffectFree;
+
     public DataBoundConfigurator(Class<T> clazz) {
         this.target = clazz;
     }
 
     @CheckForNull
     public static Constructor getDataBoundConstructor(@NonNull Class type) {
-        for (Constructor c : type.getConstructors()) {
-            if (c.getAnnotation(DataBoundConstructor.class) != null) {
-                return c;
-            }
+        return PLANS.get(type).constructor;
+    }
+
+    /**
+     * Configurator generated for a class by the configuration-as-code annotation processor, if any.
+     * It is named after the class, with its nested class names joined by {@code _}, and {@value #GENERATED_SUFFIX}.
+     */
+    @CheckForNull
+    @SuppressWarnings("unchecked")
+    public static <T> DataBoundConfigurator<T> getGeneratedConfigurator(@NonNull Class<T> type) {
+        final Constructor<?> constructor = GENERATED.get(type).orElse(null);
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            return (DataBoundConfigurator<T>) constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to instantiate generated configurator " + constructor, e);
+            return null;
         }
-        return null;
+    }
+
+    /**
+     * Invoke the {@link DataBoundConstructor}. Generated configurators call it directly.
+     * Exceptions thrown by the constructor must be wrapped in an {@link InvocationTargetException}.
+     */
+    protected T construct(Constructor<T> constructor, Object[] args) throws ReflectiveOperationException {
+        return constructor.newInstance(args);
     }
 
     @Override
@@ -89,8 +157,48 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
      */
     @Override
     protected T instance(Mapping config, ConfigurationContext context) throws ConfiguratorException {
-        final Constructor dataBoundConstructor = getDataBoundConstructor();
-        return tryConstructor((Constructor<T>) dataBoundConstructor, config, context);
+        return tryConstructor(getConstructorPlan(), config, context);
+    }
+
+    /**
+     * Components are built from scratch, unless a {@code @PostConstruct} method may have other effects, or the
+     * configurator of one of their attributes has some. {@code @DataBoundSetter}s are expected to only change the
+     * component they are called on.
+     */
+    @Override
+    public boolean isSideEffectFree(ConfigurationContext context) {
+        final Boolean cached = sideEffectFree;
+        if (cached != null) {
+            return cached;
+        }
+        final Set<Class<?>> checking = CHECKING.get();
+        if (!checking.add(target)) {
+            // recursive attribute, decided by the other attributes of the types being checked
+            return true;
+        }
+        try {
+            final boolean result = PLANS.get(target).postConstructs.isEmpty() && attributesAreSideEffectFree(context);
+            // a positive outcome for a nested type may rely on the assumption made for recursive attributes
+            if (checking.size() == 1 || !result) {
+                sideEffectFree = result;
+            }
+            return result;
+        } finally {
+            checking.remove(target);
+            if (checking.isEmpty()) {
+                CHECKING.remove();
+            }
+        }
+    }
+
+    private boolean attributesAreSideEffectFree(ConfigurationContext context) {
+        for (Attribute<T, ?> attribute : describe()) {
+            final Configurator<?> configurator = context.lookup(attribute.getType());
+            if (configurator == null || !configurator.isSideEffectFree(context)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @NonNull
@@ -98,13 +206,11 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
     public T configure(CNode c, ConfigurationContext context) throws ConfiguratorException {
         T object = super.configure(c, context);
 
-        for (Method method : target.getMethods()) {
-            if (method.getParameterCount() == 0 && hasAnnotation(method, POST_CONSTRUCT_ANNOTATIONS)) {
-                try {
-                    method.invoke(object, null);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new ConfiguratorException(this, "Failed to invoke configurator method " + method, e);
-                }
+        for (Method method : PLANS.get(target).postConstructs) {
+            try {
+                method.invoke(object, null);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ConfiguratorException(this, "Failed to invoke configurator method " + method, e);
             }
         }
         return object;
@@ -117,10 +223,11 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         return super.configure(config, context);
     }
 
-    private T tryConstructor(Constructor<T> constructor, Mapping config, ConfigurationContext context)
+    private T tryConstructor(ConstructorPlan plan, Mapping config, ConfigurationContext context)
             throws ConfiguratorException {
-        final Parameter[] parameters = constructor.getParameters();
-        final String[] names = ClassDescriptor.loadParameterNames(constructor);
+        final Constructor<T> constructor = (Constructor<T>) plan.constructor;
+        final Parameter[] parameters = plan.parameters;
+        final String[] names = plan.names;
         Object[] args = new Object[names.length];
 
         if (parameters.length > 0) {
@@ -131,13 +238,7 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
                 final CNode value = config.get(names[i]);
                 final Class t = parameters[i].getType();
 
-                Class<?> clazz = constructor.getDeclaringClass();
-                if (value == null
-                        && (hasAnnotation(parameters[i], NONNULL_ANNOTATIONS)
-                                || hasAnnotation(constructor, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
-                                || hasAnnotation(clazz, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
-                                || hasAnnotation(clazz.getPackage(), PARAMETERS_ARE_NONNULL_ANNOTATIONS)
-                                        && !hasAnnotation(parameters[i], NULLABLE_ANNOTATIONS))) {
+                if (value == null && plan.required(i)) {
 
                     if (Set.class.isAssignableFrom(t)) {
                         LOGGER.log(
@@ -170,9 +271,7 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
                             collection = new ArrayList<>();
                         }
 
-                        for (CNode o : value.asSequence()) {
-                            collection.add(lookup.configure(o, context));
-                        }
+                        collection.addAll(configureAll(lookup, value.asSequence(), false, context));
                         args[i] = collection;
 
                     } else {
@@ -196,11 +295,8 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
 
         final T object;
         try {
-            object = constructor.newInstance(args);
-        } catch (IllegalArgumentException
-                | InstantiationException
-                | InvocationTargetException
-                | IllegalAccessException ex) {
+            object = construct(constructor, args);
+        } catch (IllegalArgumentException | ReflectiveOperationException ex) {
             List<String> argumentTypes = new ArrayList<>(args.length);
             for (Object arg : args) {
                 argumentTypes.add(arg != null ? arg.getClass().getName() : "null");
@@ -279,11 +375,11 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
     public Set<Attribute<T, ?>> describe() {
         final Set<Attribute<T, ?>> attributes = super.describe();
 
-        final Constructor constructor = getDataBoundConstructor(target);
+        final ConstructorPlan plan = PLANS.get(target);
 
-        if (constructor != null) {
-            final Parameter[] parameters = constructor.getParameters();
-            final String[] names = ClassDescriptor.loadParameterNames(constructor);
+        if (plan.constructor != null) {
+            final Parameter[] parameters = plan.parameters;
+            final String[] names = plan.names;
             for (int i = 0; i < parameters.length; i++) {
                 final Parameter p = parameters[i];
                 final Attribute a = createAttribute(names[i], TypePair.of(p));
@@ -307,10 +403,11 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         // need to be compared with default values.
 
         // Build same object with only constructor parameters
-        final Constructor constructor = getDataBoundConstructor();
+        final ConstructorPlan plan = getConstructorPlan();
+        final Constructor constructor = plan.constructor;
 
-        final Parameter[] parameters = constructor.getParameters();
-        final String[] names = ClassDescriptor.loadParameterNames(constructor);
+        final Parameter[] parameters = plan.parameters;
+        final String[] names = plan.names;
         final Attribute[] attributes = new Attribute[parameters.length];
         final Object[] args = new Object[parameters.length];
         for (int i = 0; i < parameters.length; i++) {
@@ -335,7 +432,7 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
             }
         }
 
-        T ref = (T) constructor.newInstance(args);
+        T ref = construct((Constructor<T>) constructor, args);
 
         // compare instance with this "default" object
         Mapping mapping = compare(instance, ref, context);
@@ -352,16 +449,16 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
     }
 
     /**
-     * Gets DataBoundConstructor or fails.
-     * @return constructor with {@link org.kohsuke.stapler.DataBoundConstructor} annotation
+     * Gets DataBoundConstructor plan or fails.
+     * @return plan of the constructor with {@link org.kohsuke.stapler.DataBoundConstructor} annotation
      * @throws ConfiguratorException Constructor not found
      */
-    private Constructor getDataBoundConstructor() throws ConfiguratorException {
-        final Constructor constructor = getDataBoundConstructor(target);
-        if (constructor == null) {
+    private ConstructorPlan getConstructorPlan() throws ConfiguratorException {
+        final ConstructorPlan plan = PLANS.get(target);
+        if (plan.constructor == null) {
             throw new ConfiguratorException(target.getName() + " is missing a @DataBoundConstructor");
         }
-        return constructor;
+        return plan;
     }
 
     public String getDisplayName() {
@@ -396,4 +493,78 @@ public class DataBoundConfigurator<T> extends BaseConfigurator<T> {
         }
         throw new AssertionError("Class is not a primative or missing primative coverage: " + cls.getName());
     }
+
+    /**
+     * What is needed to build instances of a class through its {@link DataBoundConstructor}, resolved once per class:
+     * parameter names, which parameters are required, and {@code @PostConstruct} methods to invoke after configure.
+     * Shared by all configurators of the class, so callers must not modify the arrays.
+     */
+    private static final class ConstructorPlan {
+
+        private static final ConstructorPlan NONE =
+                new ConstructorPlan(null, new Parameter[0], new String[0], new boolean[0], List.of());
+
+        @CheckForNull
+        private final Constructor<?> constructor;
+
+        private final Parameter[] parameters;
+        private final String[] names;
+        private final boolean[] nonnull;
+        private final List<Method> postConstructs;
+
+        private ConstructorPlan(
+                @CheckForNull Constructor<?> constructor,
+                Parameter[] parameters,
+                String[] names,
+                boolean[] nonnull,
+                List<Method> postConstructs) {
+            this.constructor = constructor;
+            this.parameters = parameters;
+            this.names = names;
+            this.nonnull = nonnull;
+            this.postConstructs = postConstructs;
+        }
+
+        static ConstructorPlan of(Class<?> type) {
+            Constructor<?> constructor = null;
+            for (Constructor<?> c : type.getConstructors()) {
+                if (c.getAnnotation(DataBoundConstructor.class) != null) {
+                    constructor = c;
+                    break;
+                }
+            }
+            if (constructor == null) {
+                return NONE;
+            }
+
+            final Parameter[] parameters = constructor.getParameters();
+            final String[] names = ClassDescriptor.loadParameterNames(constructor);
+            final Class<?> clazz = constructor.getDeclaringClass();
+            final boolean nonnullByDefault = hasAnnotation(constructor, PARAMETERS_ARE_NONNULL_ANNOTATIONS)
+                    || hasAnnotation(clazz, PARAMETERS_ARE_NONNULL_ANNOTATIONS);
+            final boolean packageNonnullByDefault = clazz.getPackage() != null
+                    && hasAnnotation(clazz.getPackage(), PARAMETERS_ARE_NONNULL_ANNOTATIONS);
+            final boolean[] nonnull = new boolean[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                nonnull[i] = hasAnnotation(parameters[i], NONNULL_ANNOTATIONS)
+                        || nonnullByDefault
+                        || packageNonnullByDefault && !hasAnnotation(parameters[i], NULLABLE_ANNOTATIONS);
+            }
+
+            final List<Method> postConstructs = new ArrayList<>();
+            for (Method method : type.getMethods()) {
+                if (method.getParameterCount() == 0 && hasAnnotation(method, POST_CONSTRUCT_ANNOTATIONS)) {
+                    postConstructs.add(method);
+                }
+            }
+            return new ConstructorPlan(constructor, parameters, names, nonnull, List.copyOf(postConstructs));
+        }
+
+        /**
+         * Whether a missing value for the parameter must be replaced by an empty collection, or rejected.
+         */
+        boolean required(int i) {
+            return nonnull[i];
+        }
+    }
 }
@@ -47,6 +47,11 @@ public class EnumConfigurator<T extends Enum<T>> implements Configurator<T> {
         return configure(config, context);
     }
 
+    @Override
+    public boolean isSideEffectFree(ConfigurationContext context) {
+        return true;
+    }
+
     @CheckForNull
     @Override
     public CNode describe(T instance, ConfigurationContext context) throws Exception {
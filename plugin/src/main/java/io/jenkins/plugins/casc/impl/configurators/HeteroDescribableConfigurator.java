@@ -15,6 +15,7 @@ import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.Configurator;
 import io.jenkins.plugins.casc.ObsoleteConfigurationMonitor;
 import io.jenkins.plugins.casc.UnknownAttributesException;
+import io.jenkins.plugins.casc.impl.DefaultConfiguratorRegistry;
 import io.jenkins.plugins.casc.impl.attributes.DescribableAttribute;
 import io.jenkins.plugins.casc.model.CNode;
 import io.jenkins.plugins.casc.model.Mapping;
@@ -27,7 +28,9 @@ import io.vavr.control.Option;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -61,6 +64,9 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
 
     private final Class<T> target;
 
+    @CheckForNull
+    private transient volatile SymbolIndex<T> symbolIndex;
+
     public HeteroDescribableConfigurator(Class<T> clazz) {
         this.target = clazz;
     }
@@ -94,6 +100,16 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
         return configure(config, context);
     }
 
+    /**
+     * Side-effect free when the configurators of all implementations are.
+     */
+    @Override
+    public boolean isSideEffectFree(ConfigurationContext context) {
+        return getDescriptors()
+                .map(descriptor -> lookupConfigurator(context, descriptorClass(descriptor)))
+                .forAll(configurator -> configurator.isDefined() && configurator.get().isSideEffectFree(context));
+    }
+
     @NonNull
     @Override
     public Set<Attribute<T, ?>> describe() {
@@ -216,44 +232,61 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     }
 
     private Option<Descriptor<T>> lookupDescriptor(String symbol, CNode config) {
-        Stream<Descriptor<T>> descriptors = getDescriptors();
-        return descriptors
-                .filter(descriptor ->
-                        findByPreferredSymbol(descriptor, symbol) || findBySymbols(descriptor, symbol, config))
-                .map(descriptor -> Tuple.of(preferredSymbol(descriptor), descriptor))
-                .foldLeft(HashMap.empty(), this::handleDuplicateSymbols)
-                .values()
-                .headOption()
-                .orElse(() -> {
-                    List<String> availableImplementations = descriptors
-                            .toJavaStream()
-                            .map(d -> DescribableAttribute.getPreferredSymbol(d, getImplementedAPI(), target))
-                            .collect(Collectors.toList());
-
-                    throw new UnknownAttributesException(
-                            this,
-                            "No implementation found for:",
-                            "No " + target.getName() + " implementation found for " + symbol,
-                            symbol,
-                            availableImplementations);
-                });
-    }
+        if (symbol != null) {
+            final SymbolIndex<T> index = symbolIndex();
+            final String key = symbol.toLowerCase(Locale.ROOT);
+            final Descriptor<T> descriptor = index.preferred().get(key);
+            if (descriptor != null) {
+                return Option.some(descriptor);
+            }
+            final Descriptor<T> obsolete = index.symbols().get(key);
+            if (obsolete != null) {
+                ObsoleteConfigurationMonitor.get()
+                        .record(config, "'" + symbol + "' is obsolete, please use '" + preferredSymbol(obsolete) + "'");
+                return Option.some(obsolete);
+            }
+        }
 
-    private Boolean findByPreferredSymbol(Descriptor<T> descriptor, String symbol) {
-        return preferredSymbol(descriptor).equalsIgnoreCase(symbol);
+        List<String> availableImplementations = getDescriptors()
+                .toJavaStream()
+                .map(d -> DescribableAttribute.getPreferredSymbol(d, getImplementedAPI(), target))
+                .collect(Collectors.toList());
+
+        throw new UnknownAttributesException(
+                this,
+                "No implementation found for:",
+                "No " + target.getName() + " implementation found for " + symbol,
+                symbol,
+                availableImplementations);
     }
 
-    private Boolean findBySymbols(Descriptor<T> descriptor, String symbol, CNode node) {
-        return getSymbols(descriptor)
-                .find(actual -> actual.equalsIgnoreCase(symbol))
-                .map(actual -> {
-                    ObsoleteConfigurationMonitor.get()
-                            .record(
-                                    node,
-                                    "'" + symbol + "' is obsolete, please use '" + preferredSymbol(descriptor) + "'");
-                    return descriptorClass(descriptor);
-                })
-                .isDefined();
+    /**
+     * Descriptors by lower-cased symbol, computed once until extensions change.
+     */
+    private SymbolIndex<T> symbolIndex() {
+        final Jenkins jenkins = Jenkins.get();
+        final long generation = DefaultConfiguratorRegistry.extensionsGeneration();
+        SymbolIndex<T> index = symbolIndex;
+        if (index == null || index.jenkins() != jenkins || index.generation() != generation) {
+            final Map<String, Descriptor<T>> preferred = new LinkedHashMap<>();
+            final Map<String, Descriptor<T>> symbols = new LinkedHashMap<>();
+            for (Descriptor<T> descriptor : getDescriptors()) {
+                final String symbol = preferredSymbol(descriptor);
+                final Descriptor<T> previous = preferred.putIfAbsent(symbol.toLowerCase(Locale.ROOT), descriptor);
+                if (previous != null) {
+                    LOGGER.warning(String.format(
+                            "Found multiple implementations for symbol = %s: [%s, %s]. "
+                                    + "Please report to plugin maintainer.",
+                            symbol, previous, descriptor));
+                }
+                for (String actual : getSymbols(descriptor)) {
+                    symbols.putIfAbsent(actual.toLowerCase(Locale.ROOT), descriptor);
+                }
+            }
+            index = new SymbolIndex<>(jenkins, generation, preferred, symbols);
+            symbolIndex = index;
+        }
+        return index;
     }
 
     private Stream<String> getSymbols(Descriptor<T> descriptor) {
@@ -316,4 +349,13 @@ public class HeteroDescribableConfigurator<T extends Describable<T>> implements
     private CNode convertToNode(ConfigurationContext context, Configurator configurator, Describable instance) {
         return unchecked(() -> configurator.describe(instance, context)).apply();
     }
+
+    /**
+     * Descriptors by preferred symbol, and by any of their symbols, including obsolete ones.
+     */
+    private record SymbolIndex<T extends Describable<T>>(
+            Jenkins jenkins,
+            long generation,
+            Map<String, Descriptor<T>> preferred,
+            Map<String, Descriptor<T>> symbols) {}
 }
@@ -53,6 +53,11 @@ public class PrimitiveConfigurator implements Configurator {
         return configure(config, context);
     }
 
+    @Override
+    public boolean isSideEffectFree(ConfigurationContext context) {
+        return true;
+    }
+
     @CheckForNull
     @Override
     public CNode describe(Object instance, ConfigurationContext context) {
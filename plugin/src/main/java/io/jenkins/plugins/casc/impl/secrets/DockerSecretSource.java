@@ -6,7 +6,13 @@ import io.jenkins.plugins.casc.SecretSource;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -41,4 +47,27 @@ public class DockerSecretSource extends SecretSource {
         }
         return Optional.empty();
     }
+
+    /**
+     * Lists the secrets directory once, and only reads the files of the secrets it contains.
+     */
+    @Override
+    public Map<String, String> revealAll(Set<String> secrets) throws IOException {
+        final String[] names = this.secrets.list();
+        if (names == null) {
+            return Collections.emptyMap();
+        }
+        final Set<String> present = new HashSet<>(Arrays.asList(names));
+        final Map<String, String> revealed = new HashMap<>();
+        for (String secret : secrets) {
+            // secrets in sub-directories are not listed
+            if (present.contains(secret) || secret.contains("/") || secret.contains(File.separator)) {
+                final Optional<String> value = reveal(secret);
+                if (value.isPresent()) {
+                    revealed.put(secret, value.get());
+                }
+            }
+        }
+        return revealed;
+    }
 }
@@ -2,7 +2,11 @@ package io.jenkins.plugins.casc.impl.secrets;
 
 import hudson.Extension;
 import io.jenkins.plugins.casc.SecretSource;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
@@ -18,4 +22,24 @@ public class EnvSecretSource extends SecretSource {
         }
         return Optional.ofNullable(System.getProperty(secret, System.getenv(secret)));
     }
+
+    /**
+     * Reads the environment and system properties once for all secrets.
+     */
+    @Override
+    public Map<String, String> revealAll(Set<String> secrets) {
+        final Map<String, String> env = System.getenv();
+        final Properties properties = System.getProperties();
+        final Map<String, String> revealed = new HashMap<>();
+        for (String secret : secrets) {
+            if (StringUtils.isBlank(secret)) {
+                continue;
+            }
+            final String value = properties.getProperty(secret, env.get(secret));
+            if (value != null) {
+                revealed.put(secret, value);
+            }
+        }
+        return revealed;
+    }
 }
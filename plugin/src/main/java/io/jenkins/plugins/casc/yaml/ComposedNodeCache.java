@@ -0,0 +1,195 @@
+package io.jenkins.plugins.casc.yaml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+
+/**
+ * Keeps the composed YAML tree of file and URL sources across reloads, so unchanged sources are not parsed again.
+ * <p>
+ * {@link Path} sources are identified by modification time, size and file key, URLs by a hash of their content.
+ * Cached trees are never handed out: merge strategies modify trees in place, so callers always get a deep copy.
+ * The cache is bounded by the total size of the cached sources, set in bytes through the
+ * {@value #MAX_BYTES_PROPERTY} system property. {@code 0} disables it.
+ */
+final class ComposedNodeCache {
+
+    static final String MAX_BYTES_PROPERTY = "casc.yaml.cache.maxBytes";
+
+    private static final long MAX_BYTES = Long.getLong(MAX_BYTES_PROPERTY, 16L * 1024 * 1024);
+
+    private static final Cache<Key, Entry> CACHE = Caffeine.newBuilder()
+            .maximumWeight(Math.max(MAX_BYTES, 0))
+            .weigher((Key key, Entry entry) -> entry.weight)
+            .build();
+
+    private ComposedNodeCache() {}
+
+    /**
+     * Read and compose a source, or copy the tree composed for the same content by a previous reload.
+     */
+    @CheckForNull
+    static Node compose(YamlSource<?> source, ConfigurationContext context) throws IOException {
+        if (MAX_BYTES > 0 && source.source instanceof Path path) {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            final String fingerprint = fingerprint(attributes);
+            final Key key = new Key(
+                    path.toAbsolutePath().toString(),
+                    fingerprint,
+                    context.getYamlCodePointLimit(),
+                    context.getYamlMaxAliasesForCollections());
+            final Entry cached = CACHE.getIfPresent(key);
+            if (cached != null) {
+                return copy(cached.node);
+            }
+            final Node node;
+            try (Reader reader = YamlUtils.reader(source)) {
+                node = YamlUtils.read(source, reader, context);
+            }
+            // a file changed while being read is only cached once read again
+            if (!fingerprint.equals(fingerprint(Files.readAttributes(path, BasicFileAttributes.class)))) {
+                return node;
+            }
+            return store(key, node, attributes.size());
+        }
+
+        if (MAX_BYTES > 0 && source.source instanceof String url) {
+            final byte[] content;
+            try (InputStream in = URI.create(url).toURL().openStream()) {
+                content = in.readAllBytes();
+            }
+            final Key key = new Key(
+                    url, sha256(content), context.getYamlCodePointLimit(), context.getYamlMaxAliasesForCollections());
+            final Entry cached = CACHE.getIfPresent(key);
+            if (cached != null) {
+                return copy(cached.node);
+            }
+            try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), UTF_8)) {
+                return store(key, YamlUtils.read(source, reader, context), content.length);
+            }
+        }
+
+        // requests and streams can only be consumed once
+        try (Reader reader = YamlUtils.reader(source)) {
+            return YamlUtils.read(source, reader, context);
+        }
+    }
+
+    /**
+     * Forget every tree, so that the next reload composes all sources again.
+     */
+    static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    private static String fingerprint(BasicFileAttributes attributes) {
+        return attributes.lastModifiedTime() + "/" + attributes.size() + "/" + attributes.fileKey();
+    }
+
+    private static Node store(Key key, Node node, long size) {
+        CACHE.put(key, new Entry(node, (int) Math.min(Math.max(size, 1), Integer.MAX_VALUE)));
+        return copy(node);
+    }
+
+    /**
+     * Deep copy a composed tree, preserving nodes shared through YAML aliases.
+     */
+    @CheckForNull
+    static Node copy(@CheckForNull Node node) {
+        return node != null ? copy(node, new IdentityHashMap<>()) : null;
+    }
+
+    private static Node copy(Node node, Map<Node, Node> copies) {
+        Node copy = copies.get(node);
+        if (copy != null) {
+            return copy;
+        }
+
+        switch (node.getNodeId()) {
+            case scalar:
+                ScalarNode scalar = (ScalarNode) node;
+                copy = new ScalarNode(
+                        scalar.getTag(),
+                        false,
+                        scalar.getValue(),
+                        scalar.getStartMark(),
+                        scalar.getEndMark(),
+                        scalar.getScalarStyle());
+                copies.put(node, copy);
+                break;
+            case sequence:
+                SequenceNode sequence = (SequenceNode) node;
+                List<Node> items = new ArrayList<>(sequence.getValue().size());
+                copy = new SequenceNode(
+                        sequence.getTag(),
+                        false,
+                        items,
+                        sequence.getStartMark(),
+                        sequence.getEndMark(),
+                        sequence.getFlowStyle());
+                copies.put(node, copy);
+                for (Node item : sequence.getValue()) {
+                    items.add(copy(item, copies));
+                }
+                break;
+            case mapping:
+                MappingNode mapping = (MappingNode) node;
+                List<NodeTuple> tuples = new ArrayList<>(mapping.getValue().size());
+                MappingNode mappingCopy = new MappingNode(
+                        mapping.getTag(),
+                        false,
+                        tuples,
+                        mapping.getStartMark(),
+                        mapping.getEndMark(),
+                        mapping.getFlowStyle());
+                mappingCopy.setMerged(mapping.isMerged());
+                copy = mappingCopy;
+                copies.put(node, copy);
+                for (NodeTuple tuple : mapping.getValue()) {
+                    tuples.add(new NodeTuple(copy(tuple.getKeyNode(), copies), copy(tuple.getValueNode(), copies)));
+                }
+                break;
+            default:
+                // anchor nodes are only created when serializing
+                throw new IllegalStateException("Unexpected node " + node.getNodeId() + " " + node.getStartMark());
+        }
+        copy.setAnchor(node.getAnchor());
+        return copy;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Key(String source, String fingerprint, int codePointLimit, int maxAliases) {}
+
+    private record Entry(@CheckForNull Node node, int weight) {}
+}
@@ -1,24 +1,42 @@
 package io.jenkins.plugins.casc.yaml;
 
 import hudson.Extension;
+import io.jenkins.plugins.casc.ConfiguratorConflictException;
 import io.jenkins.plugins.casc.ConfiguratorException;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
-import org.yaml.snakeyaml.nodes.NodeId;
 import org.yaml.snakeyaml.nodes.NodeTuple;
-import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
 
 @Extension
 public class ErrorOnConflictMergeStrategy implements MergeStrategy {
 
+    /**
+     * Merge the whole document before failing, so a single report lists every conflicting element, in document order.
+     */
     @Override
     public void merge(Node root, Node node, String source) throws ConfiguratorException {
+        final List<String> conflicts = new ArrayList<>();
+        merge(root, node, source, conflicts);
+        if (conflicts.size() == 1) {
+            throw new ConfiguratorConflictException(conflicts.get(0));
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ConfiguratorConflictException(String.format(
+                    "Found %d conflicting configuration elements in %s%n%s",
+                    conflicts.size(), source, String.join(System.lineSeparator(), conflicts)));
+        }
+    }
+
+    private void merge(Node root, Node node, String source, List<String> conflicts) throws ConfiguratorException {
         if (root.getNodeId() != node.getNodeId()) {
             // means one of those yaml file doesn't conform to JCasC schema
-            throw new ConfiguratorException(
+            conflicts.add(
                     String.format("Found incompatible configuration elements %s %s", source, node.getStartMark()));
+            return;
         }
 
         switch (root.getNodeId()) {
@@ -30,31 +48,27 @@ public class ErrorOnConflictMergeStrategy implements MergeStrategy {
             case mapping:
                 MappingNode map = (MappingNode) root;
                 MappingNode map2 = (MappingNode) node;
+                if (map2.getValue().isEmpty()) {
+                    return;
+                }
+                final List<NodeTuple> tuples = map.getValue();
+                final Map<String, Integer> index = MappingIndex.index(map, source, node);
+                final List<NodeTuple> others = new ArrayList<>();
                 // merge common entries
-                final Iterator<NodeTuple> it = map2.getValue().iterator();
-                while (it.hasNext()) {
-                    NodeTuple t2 = it.next();
-                    for (NodeTuple tuple : map.getValue()) {
-
-                        final Node key = tuple.getKeyNode();
-                        final Node key2 = t2.getKeyNode();
-                        if (key.getNodeId() == NodeId.scalar) {
-                            // We don't support merge for more complex cases (yet)
-                            if (((ScalarNode) key).getValue().equals(((ScalarNode) key2).getValue())) {
-                                merge(tuple.getValueNode(), t2.getValueNode(), source);
-                                it.remove();
-                            }
-                        } else {
-                            throw new ConfiguratorException(String.format(
-                                    "Found non-mergeable configuration keys %s %s)", source, node.getEndMark()));
-                        }
+                for (NodeTuple t2 : map2.getValue()) {
+                    final Integer i = index.get(MappingIndex.key(t2, source, node));
+                    if (i == null) {
+                        others.add(t2);
+                    } else {
+                        merge(tuples.get(i).getValueNode(), t2.getValueNode(), source, conflicts);
                     }
                 }
                 // .. and add others
-                map.getValue().addAll(map2.getValue());
+                tuples.addAll(others);
                 return;
             default:
-                new OverrideMergeStrategy().merge(root, node, source);
+                conflicts.add(
+                        String.format("Found conflicting configuration at %s %s", source, node.getStartMark()));
         }
     }
 
@@ -0,0 +1,41 @@
+package io.jenkins.plugins.casc.yaml;
+
+import io.jenkins.plugins.casc.ConfiguratorException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+
+/**
+ * Lookup of mapping entries by key, shared by {@link MergeStrategy} implementations.
+ */
+final class MappingIndex {
+
+    private MappingIndex() {}
+
+    /**
+     * Map the keys of a mapping to the position of their first entry.
+     */
+    static Map<String, Integer> index(MappingNode map, String source, Node node) throws ConfiguratorException {
+        final List<NodeTuple> tuples = map.getValue();
+        final Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < tuples.size(); i++) {
+            index.putIfAbsent(key(tuples.get(i), source, node), i);
+        }
+        return index;
+    }
+
+    static String key(NodeTuple tuple, String source, Node node) throws ConfiguratorException {
+        final Node key = tuple.getKeyNode();
+        if (key.getNodeId() != NodeId.scalar) {
+            // We dont support merge for more complex cases (yet)
+            throw new ConfiguratorException(
+                    String.format("Found non-mergeable configuration keys %s %s)", source, node.getEndMark()));
+        }
+        return ((ScalarNode) key).getValue();
+    }
+}
@@ -3,11 +3,12 @@ package io.jenkins.plugins.casc.yaml;
 import hudson.Extension;
 import io.jenkins.plugins.casc.ConfiguratorConflictException;
 import io.jenkins.plugins.casc.ConfiguratorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
-import org.yaml.snakeyaml.nodes.NodeId;
 import org.yaml.snakeyaml.nodes.NodeTuple;
-import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.SequenceNode;
 
 /**
@@ -33,37 +34,27 @@ public class OverrideMergeStrategy implements MergeStrategy {
             case mapping:
                 MappingNode map = (MappingNode) root;
                 MappingNode map2 = (MappingNode) node;
+                if (map2.getValue().isEmpty()) {
+                    return;
+                }
+                final List<NodeTuple> tuples = map.getValue();
+                final Map<String, Integer> index = MappingIndex.index(map, source, node);
+                final List<NodeTuple> others = new ArrayList<>();
                 // merge common entries
-                for (int i = 0; i < map2.getValue().size(); ) {
-                    NodeTuple t2 = map2.getValue().get(i);
-                    boolean found = false;
-                    for (NodeTuple tuple : map.getValue()) {
-
-                        final Node key = tuple.getKeyNode();
-                        final Node key2 = t2.getKeyNode();
-                        if (key.getNodeId() == NodeId.scalar) {
-                            // We dont support merge for more complex cases (yet)
-                            if (((ScalarNode) key).getValue().equals(((ScalarNode) key2).getValue())) {
-                                try {
-                                    merge(tuple.getValueNode(), t2.getValueNode(), source);
-                                } catch (ConfiguratorConflictException e) {
-                                    map.getValue().set(map.getValue().indexOf(tuple), t2);
-                                }
-                                map2.getValue().remove(i);
-                                found = true;
-                                break;
-                            }
-                        } else {
-                            throw new ConfiguratorException(String.format(
-                                    "Found non-mergeable configuration keys %s %s)", source, node.getEndMark()));
-                        }
+                for (NodeTuple t2 : map2.getValue()) {
+                    final Integer i = index.get(MappingIndex.key(t2, source, node));
+                    if (i == null) {
+                        others.add(t2);
+                        continue;
                     }
-                    if (!found) {
-                        ++i;
+                    try {
+                        merge(tuples.get(i).getValueNode(), t2.getValueNode(), source);
+                    } catch (ConfiguratorConflictException e) {
+                        tuples.set(i, t2);
                     }
                 }
                 // .. and add others
-                map.getValue().addAll(map2.getValue());
+                tuples.addAll(others);
                 return;
             default:
                 throw new ConfiguratorConflictException(
@@ -2,6 +2,8 @@ package io.jenkins.plugins.casc.yaml;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.ConfiguratorException;
@@ -15,7 +17,12 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.composer.Composer;
@@ -33,27 +40,86 @@ public final class YamlUtils {
     public static final Logger LOGGER = Logger.getLogger(ConfigurationAsCode.class.getName());
 
     public static Node merge(List<YamlSource> sources, ConfigurationContext context) throws ConfiguratorException {
+        final int threads = Math.min(context.getYamlParseThreads(), sources.size());
+        if (threads <= 1) {
+            return merge(sources, context, null);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                threads, new NamingThreadFactory(new DaemonThreadFactory(), "CasC YAML parser"));
+        try {
+            return merge(sources, context, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Merge sources in order. When an executor is provided, sources are read and composed concurrently, but the
+     * resulting trees are still merged, and failures reported, in the original order.
+     */
+    private static Node merge(List<YamlSource> sources, ConfigurationContext context, ExecutorService executor)
+            throws ConfiguratorException {
         Node root = null;
         MergeStrategy mergeStrategy = MergeStrategyFactory.getMergeStrategyOrDefault(context.getMergeStrategy());
-        for (YamlSource<?> source : sources) {
-            try (Reader reader = reader(source)) {
-                final Node node = read(source, reader, context);
-
-                if (root == null) {
-                    root = node;
-                } else {
-                    if (node != null) {
-                        mergeStrategy.merge(root, node, source.toString());
-                    }
+        final List<Future<Node>> composed = new ArrayList<>(sources.size());
+        if (executor != null) {
+            for (YamlSource<?> source : sources) {
+                composed.add(isConcurrentlyReadable(source) ? executor.submit(() -> compose(source, context)) : null);
+            }
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            final YamlSource<?> source = sources.get(i);
+            final Future<Node> future = composed.isEmpty() ? null : composed.get(i);
+            final Node node = future != null ? await(future, source) : compose(source, context);
+
+            if (root == null) {
+                root = node;
+            } else {
+                if (node != null) {
+                    mergeStrategy.merge(root, node, source.toString());
                 }
-            } catch (IOException io) {
-                throw new ConfiguratorException("Failed to read " + source, io);
             }
         }
 
         return root;
     }
 
+    private static Node compose(YamlSource<?> source, ConfigurationContext context) throws ConfiguratorException {
+        try {
+            return ComposedNodeCache.compose(source, context);
+        } catch (IOException io) {
+            throw new ConfiguratorException("Failed to read " + source, io);
+        }
+    }
+
+    private static Node await(Future<Node> future, YamlSource<?> source) throws ConfiguratorException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfiguratorException("Interrupted while reading " + source, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ConfiguratorException ce) {
+                throw ce;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ConfiguratorException("Failed to read " + source, cause);
+        }
+    }
+
+    /**
+     * Requests and arbitrary streams are consumed on the calling thread, only files and URLs are read concurrently.
+     */
+    private static boolean isConcurrentlyReadable(YamlSource<?> source) {
+        return source.source instanceof Path || source.source instanceof String;
+    }
+
     public static Node read(YamlSource source, Reader reader, ConfigurationContext context) throws IOException {
         LoaderOptions loaderOptions = new LoaderOptions();
         loaderOptions.setCodePointLimit(context.getYamlCodePointLimit());
@@ -1,9 +1,15 @@
 package io.jenkins.plugins.casc;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import hudson.util.Secret;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.junit.jupiter.api.AfterEach;
@@ -82,6 +88,29 @@ public class AttributeTest {
                 "calculateIfSecret should return false when targetClass is unknown");
     }
 
+    @Test
+    void defaultAccessors() throws Exception {
+        Accessible target = new Accessible();
+
+        Attribute<Accessible, String> name = new Attribute<>("name", String.class);
+        name.setValue(target, "foo");
+        assertEquals("foo", name.getValue(target));
+
+        Attribute<Accessible, Integer> count = new Attribute<>("count", Integer.class);
+        assertEquals(42, count.getValue(target));
+
+        Attribute<Accessible, List<String>> tags =
+                new Attribute<Accessible, List<String>>("tags", String.class).multiple(true);
+        tags.setValue(target, Arrays.asList("a", "b"));
+        assertArrayEquals(new String[] {"a", "b"}, target.tags);
+
+        Attribute<Accessible, String> failing = new Attribute<>("failing", String.class);
+        InvocationTargetException e =
+                assertThrows(InvocationTargetException.class, () -> failing.setValue(target, "bar"));
+        assertEquals("bar", e.getCause().getMessage());
+        assertThrows(ConfiguratorException.class, () -> failing.getValue(target));
+    }
+
     public static void assertFieldIsSecret(Class<?> clazz, String fieldName) {
         String displayName = clazz != null ? (clazz.getName() + "#" + fieldName) : fieldName;
         assertTrue(Attribute.calculateIfSecret(clazz, fieldName), "Field should be a secret: " + displayName);
@@ -92,6 +121,31 @@ public class AttributeTest {
         assertFalse(Attribute.calculateIfSecret(clazz, fieldName), "Field should not be a secret: " + displayName);
     }
 
+    public static class Accessible {
+
+        public final int count = 42;
+
+        private String name;
+
+        private String[] tags;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setTags(String[] tags) {
+            this.tags = tags;
+        }
+
+        public void setFailing(String value) {
+            throw new IllegalArgumentException(value);
+        }
+    }
+
     public static class WellDefinedField {
 
         Secret secretField;
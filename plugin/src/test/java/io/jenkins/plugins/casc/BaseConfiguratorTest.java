@@ -473,14 +473,12 @@ public class BaseConfiguratorTest {
 
     @Test
     public void testResolveBestSetterBranchCoverage() throws Exception {
-        DummyConfigurator configurator = new DummyConfigurator();
-
         Method setObj = DummyTarget.class.getMethod("setPet", Object.class);
         Method setAnimal = DummyTarget.class.getMethod("setPet", Animal.class);
 
         List<Method> orderedMethods = Arrays.asList(setObj, setAnimal);
 
-        Method best = configurator.resolveBestSetter(orderedMethods, null);
+        Method best = BaseConfigurator.resolveBestSetter(orderedMethods, null);
 
         assertEquals("Should upgrade bestType and resolve to the more specific Animal setter", setAnimal, best);
     }
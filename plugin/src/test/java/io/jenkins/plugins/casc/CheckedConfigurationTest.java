@@ -0,0 +1,83 @@
+package io.jenkins.plugins.casc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import hudson.ExtensionList;
+import io.jenkins.plugins.casc.model.CNode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import org.htmlunit.html.HtmlButton;
+import org.htmlunit.html.HtmlElementUtil;
+import org.htmlunit.html.HtmlForm;
+import org.htmlunit.html.HtmlPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class CheckedConfigurationTest {
+
+    @TempDir
+    public Path tempFolder;
+
+    @Test
+    void replace_checks_once(JenkinsRule j) throws Exception {
+        HtmlPage page = j.createWebClient().goTo("configuration-as-code");
+        HtmlElementUtil.click((HtmlButton) page.getElementById("btn-open-apply-configuration"));
+        HtmlForm form = page.getFormByName("replace");
+        form.getInputByName("_.newSource").setValue(write().toString());
+        j.assertGoodStatus(j.submit(form));
+
+        CountingConfigurator counting = ExtensionList.lookupSingleton(CountingConfigurator.class);
+        assertEquals(1, counting.checks);
+        assertEquals(1, counting.configures);
+    }
+
+    private Path write() throws Exception {
+        Path path = tempFolder.resolve("jenkins.yaml");
+        Files.write(path, "counting: true\n".getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @TestExtension
+    public static class CountingConfigurator implements RootElementConfigurator<Object> {
+
+        private int checks;
+        private int configures;
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public Class<Object> getTarget() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<Attribute<Object, ?>> describe() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Object configure(CNode config, ConfigurationContext context) {
+            return ++configures;
+        }
+
+        @Override
+        public Object check(CNode config, ConfigurationContext context) {
+            return ++checks;
+        }
+
+        @Override
+        public Object getTargetComponent(ConfigurationContext context) {
+            return null;
+        }
+    }
+}
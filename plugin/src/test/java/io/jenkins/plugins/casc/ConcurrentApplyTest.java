@@ -0,0 +1,185 @@
+package io.jenkins.plugins.casc;
+
+import static io.jenkins.plugins.casc.ConfigurationContext.CASC_APPLY_THREADS_PROPERTY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hudson.security.ACL;
+import io.jenkins.plugins.casc.model.CNode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class ConcurrentApplyTest {
+
+    private static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+    private static volatile CountDownLatch independent;
+
+    @TempDir
+    public Path tempFolder;
+
+    @BeforeEach
+    void setProperty() {
+        System.setProperty(CASC_APPLY_THREADS_PROPERTY, "4");
+        EVENTS.clear();
+        independent = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(CASC_APPLY_THREADS_PROPERTY);
+    }
+
+    @Test
+    void independent_root_elements_are_applied_concurrently(JenkinsRule j) throws Exception {
+        ConfigurationAsCode.get().configure(write("slow: true\nfast: true\nafter-slow: true\n"));
+
+        // slow waits for fast, so this only completes if both run at the same time
+        assertEquals(List.of("fast", "slow", "after-slow"), EVENTS);
+    }
+
+    @Test
+    void failure_of_first_root_element_is_reported(JenkinsRule j) throws Exception {
+        final String config = write("broken-a: true\nbroken-b: true\n");
+        final String first = RootElementConfigurator.all().stream()
+                .map(RootElementConfigurator::getName)
+                .filter(name -> name.startsWith("broken-"))
+                .findFirst()
+                .orElseThrow();
+
+        for (int i = 0; i < 5; i++) {
+            ConfiguratorException e = assertThrows(
+                    ConfiguratorException.class, () -> ConfigurationAsCode.get().configure(config));
+            assertThat(e.getMessage(), containsString(first + " is broken"));
+        }
+    }
+
+    private String write(String content) throws Exception {
+        Path path = tempFolder.resolve("jenkins.yaml");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path.toString();
+    }
+
+    public abstract static class RecordingConfigurator implements RootElementConfigurator<Object> {
+
+        @Override
+        public Class<Object> getTarget() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<Attribute<Object, ?>> describe() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Object configure(CNode config, ConfigurationContext context) throws ConfiguratorException {
+            assertSame(ACL.SYSTEM2, Jenkins.getAuthentication2());
+            apply();
+            EVENTS.add(getName());
+            return null;
+        }
+
+        protected void apply() throws ConfiguratorException {}
+
+        @Override
+        public Object check(CNode config, ConfigurationContext context) {
+            return null;
+        }
+
+        @Override
+        public Object getTargetComponent(ConfigurationContext context) {
+            return null;
+        }
+    }
+
+    @TestExtension("independent_root_elements_are_applied_concurrently")
+    public static class SlowConfigurator extends RecordingConfigurator {
+
+        @Override
+        public String getName() {
+            return "slow";
+        }
+
+        @Override
+        protected void apply() throws ConfiguratorException {
+            try {
+                assertTrue(independent.await(30, TimeUnit.SECONDS), "fast should be applied meanwhile");
+            } catch (InterruptedException e) {
+                throw new ConfiguratorException("Interrupted", e);
+            }
+        }
+    }
+
+    @TestExtension("independent_root_elements_are_applied_concurrently")
+    public static class FastConfigurator extends RecordingConfigurator {
+
+        @Override
+        public String getName() {
+            return "fast";
+        }
+
+        @Override
+        public Object configure(CNode config, ConfigurationContext context) throws ConfiguratorException {
+            super.configure(config, context);
+            independent.countDown();
+            return null;
+        }
+    }
+
+    @TestExtension("independent_root_elements_are_applied_concurrently")
+    public static class AfterSlowConfigurator extends RecordingConfigurator {
+
+        @Override
+        public String getName() {
+            return "after-slow";
+        }
+
+        @Override
+        public Set<String> dependsOn() {
+            return Set.of("slow");
+        }
+    }
+
+    @TestExtension("failure_of_first_root_element_is_reported")
+    public static class BrokenAConfigurator extends RecordingConfigurator {
+
+        @Override
+        public String getName() {
+            return "broken-a";
+        }
+
+        @Override
+        protected void apply() throws ConfiguratorException {
+            throw new ConfiguratorException(this, getName() + " is broken");
+        }
+    }
+
+    @TestExtension("failure_of_first_root_element_is_reported")
+    public static class BrokenBConfigurator extends BrokenAConfigurator {
+
+        @Override
+        public String getName() {
+            return "broken-b";
+        }
+    }
+}
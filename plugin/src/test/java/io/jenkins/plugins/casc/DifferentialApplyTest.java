@@ -0,0 +1,116 @@
+package io.jenkins.plugins.casc;
+
+import static io.jenkins.plugins.casc.ConfigurationContext.CASC_FULL_APPLY_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import hudson.XmlFile;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.model.Jenkins;
+import jenkins.model.JenkinsLocationConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.LogRecorder;
+import org.jvnet.hudson.test.TestExtension;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class DifferentialApplyTest {
+
+    @TempDir
+    public Path tempFolder;
+
+    private final LogRecorder logging = new LogRecorder()
+            .record(Logger.getLogger(ConfigurationAsCode.class.getName()), Level.FINE)
+            .capture(100);
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(CASC_FULL_APPLY_PROPERTY);
+    }
+
+    @Test
+    void unchanged_root_elements_are_skipped(JenkinsRule j) throws Exception {
+        String config = write("jenkins:\n  systemMessage: \"from yaml\"\n  quietPeriod: 7\n");
+        ConfigurationAsCode.get().configure(config);
+        assertEquals("from yaml", j.jenkins.getSystemMessage());
+
+        ConfigurationAsCode.get().configure(config);
+        assertTrue(logging.getMessages().contains("Skipping unchanged root element jenkins"));
+
+        write("jenkins:\n  systemMessage: \"from yaml\"\n  quietPeriod: 10\n");
+        ConfigurationAsCode.get().configure(config);
+        assertEquals("from yaml", j.jenkins.getSystemMessage());
+        assertEquals(10, j.jenkins.getQuietPeriod());
+    }
+
+    @Test
+    void changes_made_by_other_means_are_reverted(JenkinsRule j) throws Exception {
+        String config = write("jenkins:\n  systemMessage: \"from yaml\"\n");
+        ConfigurationAsCode.get().configure(config);
+
+        j.jenkins.setSystemMessage("from ui");
+        ConfigurationAsCode.get().configure(config);
+        assertEquals("from yaml", j.jenkins.getSystemMessage());
+    }
+
+    @Test
+    void changes_made_by_other_means_during_a_reload_are_reverted(JenkinsRule j) throws Exception {
+        String config = write("jenkins:\n  systemMessage: \"from yaml\"\n"
+                + "unclassified:\n  location:\n    adminAddress: \"admin@example.com\"\n");
+        ConcurrentChange.armed.set(true);
+        ConfigurationAsCode.get().configure(config);
+        assertEquals("from ui", j.jenkins.getSystemMessage());
+
+        ConfigurationAsCode.get().configure(config);
+        assertEquals("from yaml", j.jenkins.getSystemMessage());
+    }
+
+    /**
+     * Changes the system message from another thread once the location has been saved by the reload.
+     */
+    @TestExtension("changes_made_by_other_means_during_a_reload_are_reverted")
+    public static class ConcurrentChange extends SaveableListener {
+
+        static final AtomicBoolean armed = new AtomicBoolean();
+
+        @Override
+        public void onChange(Saveable o, XmlFile file) {
+            if (o instanceof JenkinsLocationConfiguration && armed.compareAndSet(true, false)) {
+                final Thread thread = new Thread(() -> Jenkins.get().setSystemMessage("from ui"));
+                thread.start();
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    @Test
+    void full_apply_reapplies_unchanged_root_elements(JenkinsRule j) throws Exception {
+        String config = write("jenkins:\n  systemMessage: \"from yaml\"\n");
+        ConfigurationAsCode.get().configure(config);
+
+        j.jenkins.setSystemMessage("from ui");
+        System.setProperty(CASC_FULL_APPLY_PROPERTY, "true");
+        ConfigurationAsCode.get().configure(config);
+        assertEquals("from yaml", j.jenkins.getSystemMessage());
+    }
+
+    private String write(String content) throws Exception {
+        Path path = tempFolder.resolve("jenkins.yaml");
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path.toString();
+    }
+}
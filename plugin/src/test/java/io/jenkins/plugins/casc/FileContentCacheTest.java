@@ -0,0 +1,90 @@
+package io.jenkins.plugins.casc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileContentCacheTest {
+
+    @TempDir
+    public Path tempFolder;
+
+    @AfterEach
+    void invalidate() {
+        FileContentCache.invalidateAll();
+    }
+
+    @Test
+    void unchanged_file_is_read_once() throws Exception {
+        Path path = tempFolder.resolve("secret");
+        Files.write(path, "hello".getBytes(StandardCharsets.UTF_8));
+
+        byte[] content = FileContentCache.read(path);
+        assertSame(content, FileContentCache.read(path));
+        assertEquals("hello", FileContentCache.readString(path));
+    }
+
+    @Test
+    void changed_file_is_read_again() throws Exception {
+        Path path = tempFolder.resolve("secret");
+        Files.write(path, "hello".getBytes(StandardCharsets.UTF_8));
+        assertEquals("hello", FileContentCache.readString(path));
+
+        Files.write(path, "hello world".getBytes(StandardCharsets.UTF_8));
+        assertEquals("hello world", FileContentCache.readString(path));
+    }
+
+    @Test
+    void file_replaced_with_same_attributes_is_read_again() throws Exception {
+        Path path = tempFolder.resolve("secret");
+        Files.write(path, "hello".getBytes(StandardCharsets.UTF_8));
+        FileTime modified = Files.getLastModifiedTime(path);
+        assertEquals("hello", FileContentCache.readString(path));
+
+        // only the watcher can tell this change apart
+        Files.write(path, "world".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, modified);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!"world".equals(FileContentCache.readString(path)) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals("world", FileContentCache.readString(path));
+    }
+
+    @Test
+    void files_are_forgotten_when_reload_ends() throws Exception {
+        Path path = tempFolder.resolve("secret");
+        Files.write(path, "hello".getBytes(StandardCharsets.UTF_8));
+        byte[] content = FileContentCache.read(path);
+
+        new ConfigurationContext(null).getSecretSourceResolver().clearCache();
+        assertNotSame(content, FileContentCache.read(path));
+    }
+
+    @Test
+    void directory_is_unwatched_once_its_files_are_forgotten() throws Exception {
+        Path path = tempFolder.resolve("secret");
+        Files.write(path, "hello".getBytes(StandardCharsets.UTF_8));
+        FileContentCache.read(path);
+        assumeTrue(FileContentCache.isWatched(tempFolder), "file system cannot be watched");
+
+        FileContentCache.invalidateAll();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (FileContentCache.isWatched(tempFolder) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertFalse(FileContentCache.isWatched(tempFolder));
+    }
+}
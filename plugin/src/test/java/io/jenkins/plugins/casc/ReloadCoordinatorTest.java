@@ -0,0 +1,81 @@
+package io.jenkins.plugins.casc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ReloadCoordinatorTest {
+
+    @Test
+    void reloads_requested_while_one_is_running_are_coalesced() throws Exception {
+        final ReloadCoordinator coordinator = new ReloadCoordinator();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Future<ReloadCoordinator.Reload> first = executor.submit(() -> coordinator.reload(() -> {
+                runs.incrementAndGet();
+                started.countDown();
+                try {
+                    assertTrue(release.await(30, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new ConfiguratorException("Interrupted", e);
+                }
+            }));
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+
+            final List<ReloadCoordinator.Reload> requested = new ArrayList<>();
+            final List<Future<ReloadCoordinator.Reload>> others = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final ReloadCoordinator.Reload reload = coordinator.request(runs::incrementAndGet);
+                requested.add(reload);
+                others.add(executor.submit(() -> coordinator.run(reload)));
+            }
+            release.countDown();
+            for (Future<ReloadCoordinator.Reload> other : others) {
+                other.get(30, TimeUnit.SECONDS);
+            }
+
+            // the running reload, then a single one for all those requested meanwhile
+            assertEquals(2, runs.get());
+            for (ReloadCoordinator.Reload reload : requested) {
+                assertSame(requested.get(0), reload);
+                reload.join();
+            }
+            assertNotEquals(first.get().getId(), requested.get(0).getId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failures_are_reported_to_every_caller() {
+        final ReloadCoordinator coordinator = new ReloadCoordinator();
+        final ReloadCoordinator.Reload reload = coordinator.request(() -> {
+            throw new ConfiguratorException("broken");
+        });
+
+        coordinator.run(reload);
+
+        assertTrue(reload.isDone());
+        assertEquals("broken", assertThrows(ConfiguratorException.class, reload::join).getMessage());
+        assertEquals(
+                "broken",
+                assertThrows(ConfiguratorException.class, () -> coordinator.run(reload).join())
+                        .getMessage());
+    }
+}
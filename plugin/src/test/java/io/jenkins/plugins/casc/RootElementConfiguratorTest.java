@@ -1,7 +1,11 @@
 package io.jenkins.plugins.casc;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import hudson.model.ManagementLink;
 import java.util.List;
@@ -24,6 +28,17 @@ public class RootElementConfiguratorTest {
         assertFalse("Should load at least some standard configurators", configurators.isEmpty());
     }
 
+    @Test
+    public void shouldLookupCachedRootElementsIgnoringCase() {
+        RootElementConfigurator jenkins = RootElementConfigurators.lookup("JENKINS");
+
+        assertNotNull("Root elements should be found ignoring case", jenkins);
+        assertEquals("jenkins", jenkins.getName());
+        assertSame("Root elements should be kept between lookups", jenkins, RootElementConfigurators.lookup("jenkins"));
+        assertTrue(RootElementConfigurator.all().contains(jenkins));
+        assertNull(RootElementConfigurators.lookup("unknown"));
+    }
+
     @TestExtension("shouldSurviveBrokenManagementLink")
     @SuppressWarnings("unused")
     public static class BrokenManagementLink extends ManagementLink {
@@ -0,0 +1,195 @@
+package io.jenkins.plugins.casc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hudson.ExtensionList;
+import io.jenkins.plugins.casc.model.Mapping;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class SecretSourceCacheTest {
+
+    @TempDir
+    public Path tempFolder;
+
+    @Test
+    void secrets_are_revealed_once_per_reload(JenkinsRule j) throws Exception {
+        Path path = tempFolder.resolve("jenkins.yaml");
+        Files.write(
+                path,
+                "jenkins:\n  systemMessage: \"${COUNTED} and ${COUNTED}\"\n  labelString: \"${COUNTED}\"\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        CountingSecretSource source = ExtensionList.lookupSingleton(CountingSecretSource.class);
+        ConfigurationAsCode.get().configure(path.toString());
+        assertEquals("counted and counted", j.jenkins.getSystemMessage());
+        assertEquals("counted", j.jenkins.getLabelString());
+        assertEquals(1, source.reveals.get());
+
+        // values are not kept from one reload to the next
+        ConfigurationAsCode.get().configure(path.toString());
+        assertEquals(2, source.reveals.get());
+    }
+
+    @Test
+    void secrets_are_forgotten_when_check_fails(JenkinsRule j) {
+        Mapping jenkins = new Mapping();
+        jenkins.put("systemMessage", "${COUNTED}");
+        Mapping entries = new Mapping();
+        entries.put("jenkins", jenkins);
+        entries.put("unknownRootElement", "value");
+
+        CountingSecretSource source = ExtensionList.lookupSingleton(CountingSecretSource.class);
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        assertThrows(ConfiguratorException.class, () -> ConfigurationAsCode.get().check(entries, context));
+        assertEquals(1, source.reveals.get());
+
+        // the value revealed for the check is not kept, so it is revealed again
+        assertEquals("counted", context.getSecretSourceResolver().resolve("${COUNTED}"));
+        assertEquals(2, source.reveals.get());
+    }
+
+    @Test
+    void secrets_are_revealed_in_bulk(JenkinsRule j) throws Exception {
+        Path path = tempFolder.resolve("jenkins.yaml");
+        Files.write(
+                path,
+                ("jenkins:\n  systemMessage: \"${BULK_A} ${BULK_B:-b} ${file:/does/not/exist}\"\n"
+                                + "  labelString: \"${BULK_A} ^${BULK_C}\"\n")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        BulkSecretSource source = ExtensionList.lookupSingleton(BulkSecretSource.class);
+        ConfigurationAsCode.get().configure(path.toString());
+
+        assertEquals("a b ", j.jenkins.getSystemMessage());
+        assertEquals(List.of(Set.of("BULK_A", "BULK_B")), source.requested);
+        assertFalse(source.revealed.contains("BULK_A"));
+        assertFalse(source.revealed.contains("BULK_B"));
+    }
+
+    @Test
+    void secrets_are_revealed_concurrently(JenkinsRule j) throws Exception {
+        System.setProperty(ConfigurationContext.CASC_SECRET_PREFETCH_THREADS_PROPERTY, "4");
+        try {
+            Path path = tempFolder.resolve("jenkins.yaml");
+            Files.write(path, "jenkins:\n  systemMessage: \"${SHARED}\"\n".getBytes(StandardCharsets.UTF_8));
+
+            ConfigurationAsCode.get().configure(path.toString());
+
+            // both sources know the variable, the first one in order provides it
+            final String first = SecretSource.all().stream()
+                    .filter(ConcurrentSecretSource.class::isInstance)
+                    .map(ConcurrentSecretSource.class::cast)
+                    .findFirst()
+                    .orElseThrow()
+                    .value;
+            assertEquals(first, j.jenkins.getSystemMessage());
+            for (ConcurrentSecretSource source : ExtensionList.lookup(ConcurrentSecretSource.class)) {
+                assertFalse(source.revealed.contains("SHARED"));
+            }
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_SECRET_PREFETCH_THREADS_PROPERTY);
+        }
+    }
+
+    public abstract static class ConcurrentSecretSource extends SecretSource {
+
+        private static final CountDownLatch QUERIED = new CountDownLatch(2);
+
+        private final List<String> revealed = new CopyOnWriteArrayList<>();
+        private final String value;
+
+        protected ConcurrentSecretSource(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Optional<String> reveal(String secret) {
+            revealed.add(secret);
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, String> revealAll(Set<String> secrets) throws IOException {
+            QUERIED.countDown();
+            try {
+                // only completes if both sources are queried at the same time
+                if (!QUERIED.await(20, TimeUnit.SECONDS)) {
+                    throw new IOException("sources were not queried concurrently");
+                }
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return secrets.contains("SHARED") ? Map.of("SHARED", value) : Map.of();
+        }
+    }
+
+    @TestExtension("secrets_are_revealed_concurrently")
+    public static class OneSecretSource extends ConcurrentSecretSource {
+
+        public OneSecretSource() {
+            super("one");
+        }
+    }
+
+    @TestExtension("secrets_are_revealed_concurrently")
+    public static class OtherSecretSource extends ConcurrentSecretSource {
+
+        public OtherSecretSource() {
+            super("other");
+        }
+    }
+
+    @TestExtension("secrets_are_revealed_in_bulk")
+    public static class BulkSecretSource extends SecretSource {
+
+        private final List<Set<String>> requested = new CopyOnWriteArrayList<>();
+        private final List<String> revealed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Optional<String> reveal(String secret) {
+            revealed.add(secret);
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, String> revealAll(Set<String> secrets) {
+            requested.add(new HashSet<>(secrets));
+            return secrets.contains("BULK_A") ? Map.of("BULK_A", "a") : Map.of();
+        }
+    }
+
+    @TestExtension
+    public static class CountingSecretSource extends SecretSource {
+
+        private final AtomicInteger reveals = new AtomicInteger();
+
+        @Override
+        public Optional<String> reveal(String secret) {
+            if (!"COUNTED".equals(secret)) {
+                return Optional.empty();
+            }
+            reveals.incrementAndGet();
+            return Optional.of("counted");
+        }
+    }
+}
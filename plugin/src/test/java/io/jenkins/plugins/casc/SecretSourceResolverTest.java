@@ -67,6 +67,15 @@ public class SecretSourceResolverTest {
         return context.getSecretSourceResolver().resolve(toInterpolate);
     }
 
+    /**
+     * Resolve in a context created now, which picks the current strict mode.
+     */
+    public String resolveInNewContext(String toInterpolate) {
+        return new ConfigurationContext(ConfiguratorRegistry.get())
+                .getSecretSourceResolver()
+                .resolve(toInterpolate);
+    }
+
     public boolean logContains(String text) {
         final String expectedText = text;
         return logging.getMessages().stream().anyMatch(m -> m.contains(expectedText));
@@ -523,12 +532,43 @@ public class SecretSourceResolverTest {
         assertThat(resolve("${trim:${FOO}}"), equalTo(""));
     }
 
+    @Test
+    public void resolve_sameScalarWithNewValues() {
+        environment.set("FOO", "hello");
+        assertThat(resolve("${FOO}:^${BAR}"), equalTo("hello:${BAR}"));
+        environment.set("FOO", "world");
+        assertThat(resolve("${FOO}:^${BAR}"), equalTo("world:${BAR}"));
+    }
+
+    @Test
+    public void resolve_escapedWithNestedVariable() {
+        environment.set("FOO", "hello");
+        assertThat(resolve("^${${FOO}}"), equalTo("${hello}"));
+        assertThat(resolve("^${${BAR}}"), equalTo("${}"));
+    }
+
+    @Test
+    public void resolve_valueWithVariable() {
+        environment.set("FOO", "${BAR}");
+        environment.set("BAR", "hello");
+        assertThat(resolve("${FOO}"), equalTo("hello"));
+    }
+
+    @Test
+    public void resolve_strictModeReadOncePerContext() {
+        ConfigurationContext lenient = new ConfigurationContext(ConfiguratorRegistry.get());
+        environment.set("CASC_STRICT_SECRET_RESOLUTION", "true");
+
+        assertThat(lenient.getSecretSourceResolver().resolve("${MISSING_SECRET_VAR}"), equalTo(""));
+        assertThrows(IllegalStateException.class, () -> resolveInNewContext("${MISSING_SECRET_VAR}"));
+    }
+
     @Test
     public void resolve_strictModeEnvVar_throwsExceptionOnMissingVar() {
         environment.set("CASC_STRICT_SECRET_RESOLUTION", "true");
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            resolve("${MISSING_SECRET_VAR}");
+            resolveInNewContext("${MISSING_SECRET_VAR}");
         });
 
         assertThat(exception.getMessage(), containsString("MISSING_SECRET_VAR"));
@@ -539,7 +579,7 @@ public class SecretSourceResolverTest {
         System.setProperty("casc.strict.secret.resolution", "true");
         try {
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-                resolve("${ANOTHER_MISSING_VAR}");
+                resolveInNewContext("${ANOTHER_MISSING_VAR}");
             });
             assertThat(exception.getMessage(), containsString("ANOTHER_MISSING_VAR"));
         } finally {
@@ -551,7 +591,7 @@ public class SecretSourceResolverTest {
     public void resolve_strictMode_ignoresExceptionIfDefaultProvided() {
         environment.set("CASC_STRICT_SECRET_RESOLUTION", "true");
 
-        String output = resolve("${MISSING_SECRET_VAR:-my_fallback_value}");
+        String output = resolveInNewContext("${MISSING_SECRET_VAR:-my_fallback_value}");
 
         assertThat(output, equalTo("my_fallback_value"));
     }
@@ -560,7 +600,7 @@ public class SecretSourceResolverTest {
     public void resolve_strictModeSetToFalse_defaultsToEmptyString() {
         environment.set("CASC_STRICT_SECRET_RESOLUTION", "false");
 
-        String output = resolve("${MISSING_SECRET_VAR}");
+        String output = resolveInNewContext("${MISSING_SECRET_VAR}");
 
         assertThat(output, equalTo(""));
         assertTrue(logContains("Configuration import: Found unresolved variable 'MISSING_SECRET_VAR'"));
@@ -572,7 +612,7 @@ public class SecretSourceResolverTest {
         environment.set("FOO", "hello");
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
-            resolve("${FOO}:${MISSING}");
+            resolveInNewContext("${FOO}:${MISSING}");
         });
         assertThat(exception.getMessage(), containsString("MISSING"));
     }
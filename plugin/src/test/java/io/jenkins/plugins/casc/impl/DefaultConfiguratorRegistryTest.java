@@ -3,19 +3,30 @@ package io.jenkins.plugins.casc.impl;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import hudson.ExtensionList;
 import hudson.tasks.Builder;
+import io.jenkins.plugins.casc.Attribute;
+import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.Configurator;
+import io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.HeteroDescribableConfigurator;
 import io.jenkins.plugins.casc.impl.configurators.PrimitiveConfigurator;
+import io.jenkins.plugins.casc.model.Mapping;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 
 public class DefaultConfiguratorRegistryTest {
 
@@ -109,4 +120,150 @@ public class DefaultConfiguratorRegistryTest {
 
         assertNull("Unbounded wildcards resolve to Object and should safely return null", configurator);
     }
+
+    @Test
+    public void shouldKeepConfiguratorsUntilExtensionsChange() {
+        Configurator<?> configurator = registry.lookup(String.class);
+        assertSame(configurator, registry.lookup(String.class));
+        assertEquals(1, registry.getCacheStats().hitCount());
+        assertEquals(1, registry.getCacheStats().missCount());
+
+        PrimitiveConfigurator dedicated = new PrimitiveConfigurator(String.class);
+        j.jenkins.getExtensionList(Configurator.class).add(dedicated);
+
+        assertSame(dedicated, registry.lookup(String.class));
+        assertEquals(2, registry.getCacheStats().missCount());
+    }
+
+    @Test
+    public void shouldAskConfiguratorsOverridingCanConfigureInExtensionOrder() {
+        ExtensionList<Configurator> configurators = j.jenkins.getExtensionList(Configurator.class);
+        Configurator<?> custom = configurators.get(CustomDispatchConfigurator.class);
+        Configurator<?> indexed = configurators.get(IndexedDispatchConfigurator.class);
+        assertTrue(
+                "Custom configurator should be registered first",
+                configurators.indexOf(custom) < configurators.indexOf(indexed));
+
+        assertSame(custom, registry.lookup(DispatchTarget.class));
+    }
+
+    @Test
+    public void shouldRebuildIndexWhenExtensionsChange() {
+        assertNull(registry.lookup(DispatchTarget.class));
+
+        ExtensionList<Configurator> configurators = j.jenkins.getExtensionList(Configurator.class);
+        PrimitiveConfigurator indexed = new PrimitiveConfigurator(DispatchTarget.class);
+        configurators.add(indexed);
+        assertSame(indexed, registry.lookup(DispatchTarget.class));
+
+        CustomDispatchConfigurator custom = new CustomDispatchConfigurator();
+        configurators.add(custom);
+        assertSame(
+                "Indexed configurator registered first should still win",
+                indexed,
+                registry.lookup(DispatchTarget.class));
+
+        configurators.remove(indexed);
+        assertSame(custom, registry.lookup(DispatchTarget.class));
+
+        configurators.remove(custom);
+        assertNull(registry.lookup(DispatchTarget.class));
+    }
+
+    public static class DispatchTarget {}
+
+    @TestExtension(value = "shouldAskConfiguratorsOverridingCanConfigureInExtensionOrder", ordinal = 2)
+    public static class CustomDispatchConfigurator extends PrimitiveConfigurator {
+        public CustomDispatchConfigurator() {
+            super(DispatchTarget.class);
+        }
+
+        @Override
+        public boolean canConfigure(Class clazz) {
+            return clazz == DispatchTarget.class;
+        }
+    }
+
+    @TestExtension(value = "shouldAskConfiguratorsOverridingCanConfigureInExtensionOrder", ordinal = 1)
+    public static class IndexedDispatchConfigurator extends PrimitiveConfigurator {
+        public IndexedDispatchConfigurator() {
+            super(DispatchTarget.class);
+        }
+    }
+
+    @Test
+    public void shouldPreferGeneratedConfigurator() {
+        Configurator<?> configurator = registry.lookup(GeneratedTarget.class);
+
+        // generated by the annotation processor when compiling tests
+        assertTrue(
+                "Configurator generated at build time should be preferred",
+                configurator instanceof DefaultConfiguratorRegistryTest_GeneratedTarget_CascConfigurator);
+    }
+
+    @Test
+    public void generatedConfiguratorShouldBehaveLikeReflectiveOne() throws Exception {
+        @SuppressWarnings("unchecked")
+        Configurator<GeneratedTarget> generated = registry.lookup(GeneratedTarget.class);
+        DataBoundConfigurator<GeneratedTarget> reflective = new DataBoundConfigurator<>(GeneratedTarget.class);
+        ConfigurationContext context = new ConfigurationContext(registry);
+
+        assertEquals(attributeNames(reflective), attributeNames(generated));
+
+        GeneratedTarget direct = generated.configure(generatedTargetConfig(), context);
+        GeneratedTarget reflected = reflective.configure(generatedTargetConfig(), context);
+        for (GeneratedTarget target : List.of(direct, reflected)) {
+            assertEquals("generated", target.getName());
+            assertEquals(3, target.getCount());
+            assertEquals("direct", target.getDescription());
+        }
+
+        Mapping described = generated.describe(direct, context).asMapping();
+        Mapping expected = reflective.describe(reflected, context).asMapping();
+        assertEquals(expected.keySet(), described.keySet());
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key).asScalar().getValue(), described.get(key).asScalar().getValue());
+        }
+    }
+
+    private static Mapping generatedTargetConfig() {
+        Mapping config = new Mapping();
+        config.put("name", "generated");
+        config.put("count", "3");
+        config.put("description", "direct");
+        return config;
+    }
+
+    private static Set<String> attributeNames(Configurator<?> configurator) {
+        return configurator.describe().stream().map(Attribute::getName).collect(Collectors.toSet());
+    }
+
+    public static class GeneratedTarget {
+        private final String name;
+        private final int count;
+        private String description;
+
+        @DataBoundConstructor
+        public GeneratedTarget(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        @DataBoundSetter
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
 }
@@ -5,9 +5,13 @@ import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import hudson.markup.MarkupFormatter;
 import hudson.markup.RawHtmlMarkupFormatter;
 import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
 import io.jenkins.plugins.casc.UnknownAttributesException;
+import io.jenkins.plugins.casc.model.Scalar;
 import java.util.Objects;
 import jenkins.model.Jenkins;
 import org.junit.Rule;
@@ -55,4 +59,14 @@ public class HeteroDescribableConfiguratorTest {
                 containsString(
                         "No hudson.markup.MarkupFormatter implementation found for some-invalid-formatter-name"));
     }
+
+    @Test
+    public void testSymbolLookupIgnoresCase() {
+        HeteroDescribableConfigurator<MarkupFormatter> configurator =
+                new HeteroDescribableConfigurator<>(MarkupFormatter.class);
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+
+        assertTrue(configurator.configure(new Scalar("RAWHTML"), context) instanceof RawHtmlMarkupFormatter);
+        assertTrue(configurator.configure(new Scalar("rawHtml"), context) instanceof RawHtmlMarkupFormatter);
+    }
 }
@@ -1,3 +1,116 @@
 package io.jenkins.plugins.casc.jmh.benchmarks;
 
-public class ConfigureBenchmark {}
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import io.jenkins.plugins.casc.model.Mapping;
+import io.jenkins.plugins.casc.yaml.YamlSource;
+import io.jenkins.plugins.casc.yaml.YamlUtils;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import jenkins.benchmark.jmh.JmhBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the main phases of {@link ConfigurationAsCode#configure()} against a synthetic {@code jenkins.yaml}:
+ * parsing and merging the sources, the dry-run check and the full apply.
+ */
+@JmhBenchmark
+@BenchmarkMode(Mode.AverageTime)
+public class ConfigureBenchmark {
+
+    public static class JenkinsState extends JmhBenchmarkState {
+
+        /**
+         * Number of agents (and labels) declared in the generated configuration.
+         */
+        @Param({"100", "1000", "10000"})
+        public int size;
+
+        private Path config;
+        private List<YamlSource> sources;
+        private ConfigurationContext context;
+        private Mapping mapping;
+
+        @Override
+        public void setup() throws Exception {
+            // measure the whole apply, not the detection of an unchanged configuration
+            System.setProperty(ConfigurationContext.CASC_FULL_APPLY_PROPERTY, "true");
+            config = Files.createTempFile("casc-benchmark-", ".yaml");
+            writeConfiguration(config, size);
+            sources = Collections.singletonList(YamlSource.of(config));
+            context = new ConfigurationContext(ConfiguratorRegistry.get());
+            mapping = YamlUtils.loadFrom(sources, context);
+        }
+
+        @Override
+        public void tearDown() {
+            System.clearProperty(ConfigurationContext.CASC_FULL_APPLY_PROPERTY);
+            try {
+                Files.deleteIfExists(config);
+            } catch (IOException e) {
+                // best effort, the file lives in the temporary directory anyway
+            }
+        }
+    }
+
+    @Benchmark
+    public void parse(JenkinsState state, Blackhole blackhole) throws Exception {
+        blackhole.consume(YamlUtils.loadFrom(state.sources, state.context));
+    }
+
+    @Benchmark
+    public void check(JenkinsState state, Blackhole blackhole) throws Exception {
+        // checkWith consumes the entries it has handled, so each invocation works on its own copy
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        blackhole.consume(ConfigurationAsCode.get().checkWith(state.mapping.clone(), context));
+    }
+
+    @Benchmark
+    public void configure(JenkinsState state) throws Exception {
+        ConfigurationAsCode.get().configure(state.config.toString());
+    }
+
+    /**
+     * Writes a configuration with {@code size} permanent agents, each one referencing its own label atom, so that
+     * both large sequences and many {@code DataBoundConfigurator} instances are exercised.
+     */
+    static void writeConfiguration(Path path, int size) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("jenkins:\n");
+            writer.write("  systemMessage: \"Benchmark with " + size + " agents\"\n");
+            writer.write("  numExecutors: 0\n");
+            writer.write("  nodes:\n");
+            for (int i = 0; i < size; i++) {
+                writer.write("    - permanent:\n");
+                writer.write("        name: \"agent-" + i + "\"\n");
+                writer.write("        nodeDescription: \"${AGENT_DESCRIPTION:-synthetic agent}\"\n");
+                writer.write("        labelString: \"label-" + i + " linux\"\n");
+                writer.write("        numExecutors: 1\n");
+                writer.write("        remoteFS: \"/home/jenkins/agent-" + i + "\"\n");
+                writer.write("        retentionStrategy: \"always\"\n");
+                writer.write("        launcher:\n");
+                writer.write("          jnlp:\n");
+                writer.write("            workDirSettings:\n");
+                writer.write("              disabled: true\n");
+                writer.write("              failIfWorkDirIsMissing: false\n");
+                writer.write("              internalDir: \"remoting\"\n");
+            }
+            writer.write("  labelAtoms:\n");
+            writer.write("    - name: \"linux\"\n");
+            for (int i = 0; i < size; i++) {
+                writer.write("    - name: \"label-" + i + "\"\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.jenkins.plugins.casc.jmh.benchmarks;
+
+import io.jenkins.plugins.casc.yaml.ErrorOnConflictMergeStrategy;
+import io.jenkins.plugins.casc.yaml.OverrideMergeStrategy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import jenkins.benchmark.jmh.JmhBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * Measures merging two documents whose {@code unclassified} sections share half of their keys, as happens with
+ * many split files. Shared keys hold mappings with distinct entries, so they merge without conflict.
+ * <p>
+ * Merge strategies modify the trees in place, which are therefore built again before every invocation.
+ * No Jenkins instance is needed.
+ */
+@JmhBenchmark
+@BenchmarkMode(Mode.AverageTime)
+public class MergeStrategyBenchmark {
+
+    @State(Scope.Thread)
+    public static class Documents {
+
+        /**
+         * Number of keys under {@code unclassified} in each document.
+         */
+        @Param({"10000"})
+        public int keys;
+
+        private Node root;
+        private Node node;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            root = document(0, keys, "a");
+            node = document(keys / 2, keys / 2 + keys, "b");
+        }
+    }
+
+    @Benchmark
+    public void errorOnConflict(Documents documents, Blackhole blackhole) {
+        new ErrorOnConflictMergeStrategy().merge(documents.root, documents.node, "benchmark");
+        blackhole.consume(documents.root);
+    }
+
+    @Benchmark
+    public void override(Documents documents, Blackhole blackhole) {
+        new OverrideMergeStrategy().merge(documents.root, documents.node, "benchmark");
+        blackhole.consume(documents.root);
+    }
+
+    /**
+     * {@code unclassified: {key-from: {attribute: "from"}, ..., key-(to - 1): {attribute: "to - 1"}}}
+     */
+    private static Node document(int from, int to, String attribute) {
+        List<NodeTuple> entries = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            entries.add(new NodeTuple(
+                    scalar("key-" + i),
+                    mapping(new ArrayList<>(Collections.singletonList(
+                            new NodeTuple(scalar(attribute), scalar(String.valueOf(i))))))));
+        }
+        return mapping(new ArrayList<>(
+                Collections.singletonList(new NodeTuple(scalar("unclassified"), mapping(entries)))));
+    }
+
+    private static MappingNode mapping(List<NodeTuple> tuples) {
+        return new MappingNode(Tag.MAP, tuples, DumperOptions.FlowStyle.BLOCK);
+    }
+
+    private static ScalarNode scalar(String value) {
+        return new ScalarNode(Tag.STR, value, null, null, DumperOptions.ScalarStyle.PLAIN);
+    }
+}
@@ -1,11 +1,18 @@
 package io.jenkins.plugins.casc.yaml;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorConflictException;
 import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
@@ -40,6 +47,34 @@ class ErrorOnConflictMergeStrategyTest {
                 "Incompatible config files merging process");
     }
 
+    @Test
+    void reportsEveryConflict(JenkinsRule j) throws Exception {
+        List<YamlSource> sources = List.of(
+                YamlSource.of(getClass().getResource("multiple-keys-a.yml").toExternalForm()),
+                YamlSource.of(getClass().getResource("multiple-keys-b.yml").toExternalForm()));
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+
+        String message = assertThrows(ConfiguratorConflictException.class, () -> YamlUtils.merge(sources, context))
+                .getMessage();
+        assertThat(message, containsString("Found 3 conflicting configuration elements"));
+        assertThat(message, stringContainsInOrder("line 2,", "line 3,", "line 6,"));
+    }
+
+    @Test
+    void reportsIncompatibleElementsWithOtherConflicts(JenkinsRule j) throws Exception {
+        List<YamlSource> sources = List.of(
+                YamlSource.of(getClass().getResource("multiple-keys-a.yml").toExternalForm()),
+                YamlSource.of(getClass().getResource("multiple-keys-incompatible.yml").toExternalForm()));
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+
+        String message = assertThrows(ConfiguratorConflictException.class, () -> YamlUtils.merge(sources, context))
+                .getMessage();
+        assertThat(message, containsString("Found 2 conflicting configuration elements"));
+        assertThat(
+                message,
+                stringContainsInOrder("Found conflicting configuration", "Found incompatible configuration elements"));
+    }
+
     @Test
     void hasCorrectDefaultName(JenkinsRule j) {
         MergeStrategy strategy = MergeStrategyFactory.getMergeStrategyOrDefault(null);
@@ -9,6 +9,11 @@ import io.jenkins.plugins.casc.ConfigurationAsCode;
 import io.jenkins.plugins.casc.ConfigurationContext;
 import io.jenkins.plugins.casc.ConfiguratorException;
 import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import jenkins.model.Jenkins;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
@@ -119,4 +124,33 @@ public class OverrideMergeStrategyTest {
                 0,
                 Jenkins.get().getNumExecutors());
     }
+
+    @Test
+    public void keyOrderIsPreserved() throws Exception {
+        String merged = merge(
+                "jenkins:\n  systemMessage: \"hello a\"\n  numExecutors: 0\n  labelString: \"a\"\n",
+                "jenkins:\n  mode: EXCLUSIVE\n  numExecutors: 1\n  quietPeriod: 2\n  systemMessage: \"hello b\"\n");
+
+        assertEquals(
+                String.join(
+                        "\n",
+                        "jenkins:",
+                        "  systemMessage: \"hello b\"",
+                        "  numExecutors: 1",
+                        "  labelString: \"a\"",
+                        "  mode: EXCLUSIVE",
+                        "  quietPeriod: 2",
+                        ""),
+                merged);
+    }
+
+    private static String merge(String... documents) throws Exception {
+        List<YamlSource> sources = new ArrayList<>();
+        for (String document : documents) {
+            sources.add(YamlSource.of(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8))));
+        }
+        StringWriter writer = new StringWriter();
+        ConfigurationAsCode.serializeYamlNode(YamlUtils.merge(sources, context), writer);
+        return writer.toString();
+    }
 }
@@ -0,0 +1,111 @@
+package io.jenkins.plugins.casc.yaml;
+
+import static io.jenkins.plugins.casc.ConfigurationContext.CASC_YAML_PARSE_THREADS_PROPERTY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import io.jenkins.plugins.casc.ConfigurationContext;
+import io.jenkins.plugins.casc.ConfiguratorException;
+import io.jenkins.plugins.casc.ConfiguratorRegistry;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+class YamlUtilsTest {
+
+    @TempDir
+    public Path tempFolder;
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(CASC_YAML_PARSE_THREADS_PROPERTY);
+        ComposedNodeCache.invalidateAll();
+    }
+
+    @Test
+    void parallelParsingMergesInSourceOrder(JenkinsRule j) throws Exception {
+        List<YamlSource> sources = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sources.add(YamlSource.of(write(
+                    "part-" + i + ".yaml",
+                    "jenkins:\n  labelAtoms:\n    - name: \"label-" + i + "\"\nx-part-" + i + ": " + i + "\n")));
+        }
+
+        assertEquals(mergeToString(sources, "1"), mergeToString(sources, "4"));
+    }
+
+    @Test
+    void parallelParsingReportsSameConflict(JenkinsRule j) throws Exception {
+        List<YamlSource> sources = new ArrayList<>();
+        sources.add(YamlSource.of(write("a.yaml", "jenkins:\n  systemMessage: \"a\"\n")));
+        sources.add(YamlSource.of(write("b.yaml", "jenkins:\n  systemMessage: \"b\"\n")));
+        sources.add(YamlSource.of(write("c.yaml", "jenkins: [\n")));
+
+        String sequential = assertThrows(ConfiguratorException.class, () -> mergeToString(sources, "1"))
+                .getMessage();
+        String parallel = assertThrows(ConfiguratorException.class, () -> mergeToString(sources, "4"))
+                .getMessage();
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void cachedTreesAreNotChangedByMerging(JenkinsRule j) throws Exception {
+        List<YamlSource> sources = new ArrayList<>();
+        sources.add(YamlSource.of(write("a.yaml", "jenkins:\n  labelAtoms:\n    - name: \"a\"\n")));
+        sources.add(YamlSource.of(write("b.yaml", "jenkins:\n  labelAtoms:\n    - name: \"b\"\n")));
+
+        // the first source is the merge root, reusing it without a copy would accumulate the second one
+        assertEquals(mergeToString(sources, "1"), mergeToString(sources, "1"));
+    }
+
+    @Test
+    void modifiedFilesAreComposedAgain(JenkinsRule j) throws Exception {
+        List<YamlSource> sources =
+                List.of(YamlSource.of(write("a.yaml", "jenkins:\n  systemMessage: \"before\"\n")));
+        assertThat(mergeToString(sources, "1"), containsString("before"));
+
+        write("a.yaml", "jenkins:\n  systemMessage: \"after the change\"\n");
+        assertThat(mergeToString(sources, "1"), containsString("after the change"));
+    }
+
+    @Test
+    void invalidatedTreesAreComposedAgain(JenkinsRule j) throws Exception {
+        Path path = write("a.yaml", "jenkins:\n  systemMessage: \"before\"\n");
+        FileTime modified = Files.getLastModifiedTime(path);
+        List<YamlSource> sources = List.of(YamlSource.of(path));
+        assertThat(mergeToString(sources, "1"), containsString("before"));
+
+        // a change of the same size within the resolution of modification times cannot be told apart
+        write("a.yaml", "jenkins:\n  systemMessage: \"after!\"\n");
+        Files.setLastModifiedTime(path, modified);
+        ComposedNodeCache.invalidateAll();
+        assertThat(mergeToString(sources, "1"), containsString("after!"));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path path = tempFolder.resolve(name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static String mergeToString(List<YamlSource> sources, String threads) throws Exception {
+        System.setProperty(CASC_YAML_PARSE_THREADS_PROPERTY, threads);
+        ConfigurationContext context = new ConfigurationContext(ConfiguratorRegistry.get());
+        StringWriter writer = new StringWriter();
+        ConfigurationAsCode.serializeYamlNode(YamlUtils.merge(sources, context), writer);
+        return writer.toString();
+    }
+}
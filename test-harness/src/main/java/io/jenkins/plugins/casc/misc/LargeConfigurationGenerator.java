@@ -0,0 +1,295 @@
+package io.jenkins.plugins.casc.misc;
+
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible, valid Configuration as Code YAML of tunable size, for benchmarks and scaling tests.
+ * <p>
+ * Only components shipped with Jenkins core are used, so the output applies on a bare {@code JenkinsRule}.
+ * The same knobs and {@link #seed(long) seed} always produce the same documents.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * List<Path> files = new LargeConfigurationGenerator()
+ *         .nodes(2000)
+ *         .labelAtoms(50)
+ *         .users(100)
+ *         .secretDensity(0.2)
+ *         .files(40)
+ *         .writeTo(tempDir);
+ * ConfigurationAsCode.get().configure(tempDir.toString());}</pre>
+ */
+public class LargeConfigurationGenerator {
+
+    /**
+     * Core {@code unclassified} descriptors, as {@code name -> body} pairs, used in order by {@link #unclassified(int)}.
+     */
+    private static final String[][] UNCLASSIFIED = {
+        {"location", "url: \"http://localhost:8080/\"", "adminAddress: \"admin@example.org\""},
+        {"fingerprints", "fingerprintCleanupDisabled: false"},
+        {"buildDiscarders", "configuredBuildDiscarders:", "  - \"jobBuildDiscarder\""},
+    };
+
+    private int nodes = 10;
+    private int labelAtoms = 10;
+    private int unclassified = 0;
+    private int users = 0;
+    private int nestingDepth = 0;
+    private double secretDensity = 0;
+    private int files = 1;
+    private long seed = 0;
+
+    /**
+     * @param nodes number of permanent agents declared under {@code jenkins.nodes}
+     */
+    public LargeConfigurationGenerator nodes(int nodes) {
+        this.nodes = requirePositiveOrZero(nodes, "nodes");
+        return this;
+    }
+
+    /**
+     * @param labelAtoms number of entries under {@code jenkins.labelAtoms}, agents are spread over them
+     */
+    public LargeConfigurationGenerator labelAtoms(int labelAtoms) {
+        this.labelAtoms = requirePositiveOrZero(labelAtoms, "labelAtoms");
+        return this;
+    }
+
+    /**
+     * @param unclassified number of {@code unclassified} descriptors to configure, at most the number of suitable
+     *                     descriptors available in Jenkins core
+     * @throws IllegalArgumentException if more descriptors are requested than are available
+     */
+    public LargeConfigurationGenerator unclassified(int unclassified) {
+        if (requirePositiveOrZero(unclassified, "unclassified") > UNCLASSIFIED.length) {
+            throw new IllegalArgumentException(
+                    "unclassified must be at most " + UNCLASSIFIED.length + ", got " + unclassified);
+        }
+        this.unclassified = unclassified;
+        return this;
+    }
+
+    /**
+     * @param users number of {@code hudsonPrivateSecurityRealm} users. {@code 0} leaves the security realm untouched.
+     */
+    public LargeConfigurationGenerator users(int users) {
+        this.users = requirePositiveOrZero(users, "users");
+        return this;
+    }
+
+    /**
+     * @param nestingDepth depth of an extra nested mapping, declared as an {@code x-} alias entry so it is parsed and
+     *                     merged but not applied
+     */
+    public LargeConfigurationGenerator nestingDepth(int nestingDepth) {
+        this.nestingDepth = requirePositiveOrZero(nestingDepth, "nestingDepth");
+        return this;
+    }
+
+    /**
+     * @param secretDensity ratio, between 0 and 1, of free-text values written as a {@code ${...}} reference.
+     *                      Every reference carries its value as default, so it resolves without any secret source.
+     */
+    public LargeConfigurationGenerator secretDensity(double secretDensity) {
+        if (secretDensity < 0 || secretDensity > 1) {
+            throw new IllegalArgumentException("secretDensity must be between 0 and 1, got " + secretDensity);
+        }
+        this.secretDensity = secretDensity;
+        return this;
+    }
+
+    /**
+     * @param files number of documents to split the configuration into.
+     *              More than one writes a {@code jenkins.yaml.d} directory whose files merge without conflict.
+     */
+    public LargeConfigurationGenerator files(int files) {
+        if (files < 1) {
+            throw new IllegalArgumentException("files must be at least 1, got " + files);
+        }
+        this.files = files;
+        return this;
+    }
+
+    /**
+     * @param seed seed deciding which values are written as secret references
+     */
+    public LargeConfigurationGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Generates the whole configuration as a single document, ignoring {@link #files(int)}.
+     */
+    public String generate() {
+        return generate(1).get(0);
+    }
+
+    /**
+     * Writes the configuration to {@code directory}.
+     *
+     * @return {@code directory/jenkins.yaml} for a single file, otherwise the sorted files of
+     *         {@code directory/jenkins.yaml.d}
+     */
+    public List<Path> writeTo(Path directory) throws IOException {
+        List<String> documents = generate(files);
+        if (documents.size() == 1) {
+            Path file = directory.resolve(ConfigurationAsCode.DEFAULT_JENKINS_YAML_PATH);
+            Files.createDirectories(directory);
+            Files.write(file, documents.get(0).getBytes(StandardCharsets.UTF_8));
+            return Collections.singletonList(file);
+        }
+
+        Path split = directory.resolve(ConfigurationAsCode.DEFAULT_JENKINS_YAML_PATH + ".d");
+        Files.createDirectories(split);
+        List<Path> written = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            Path file = split.resolve(String.format("%04d-synthetic.yaml", i));
+            Files.write(file, documents.get(i).getBytes(StandardCharsets.UTF_8));
+            written.add(file);
+        }
+        return written;
+    }
+
+    private List<String> generate(int count) {
+        Random random = new Random(seed);
+        Part[] parts = new Part[count];
+        for (int i = 0; i < count; i++) {
+            parts[i] = new Part();
+        }
+
+        for (int i = 0; i < nodes; i++) {
+            StringBuilder sb = parts[i % count].nodes;
+            sb.append("    - permanent:\n");
+            sb.append("        name: \"agent-").append(i).append("\"\n");
+            sb.append("        nodeDescription: ")
+                    .append(value(random, "synthetic agent " + i))
+                    .append('\n');
+            if (labelAtoms > 0) {
+                sb.append("        labelString: \"label-").append(i % labelAtoms).append("\"\n");
+            }
+            sb.append("        numExecutors: 1\n");
+            sb.append("        remoteFS: ")
+                    .append(value(random, "/home/jenkins/agent-" + i))
+                    .append('\n');
+            sb.append("        retentionStrategy: \"always\"\n");
+            sb.append("        launcher:\n");
+            sb.append("          jnlp:\n");
+            sb.append("            workDirSettings:\n");
+            sb.append("              disabled: true\n");
+            sb.append("              failIfWorkDirIsMissing: false\n");
+            sb.append("              internalDir: \"remoting\"\n");
+        }
+
+        for (int i = 0; i < labelAtoms; i++) {
+            parts[i % count].labelAtoms.append("    - name: \"label-").append(i).append("\"\n");
+        }
+
+        for (int i = 0; i < users; i++) {
+            StringBuilder sb = parts[i % count].users;
+            sb.append("        - id: \"user-").append(i).append("\"\n");
+            sb.append("          password: ")
+                    .append(value(random, "password-" + i))
+                    .append('\n');
+        }
+
+        for (int i = 0; i < unclassified; i++) {
+            StringBuilder sb = parts[i % count].unclassified;
+            sb.append("  ").append(UNCLASSIFIED[i][0]).append(":\n");
+            for (int j = 1; j < UNCLASSIFIED[i].length; j++) {
+                sb.append("    ").append(UNCLASSIFIED[i][j]).append('\n');
+            }
+        }
+
+        for (int level = 1; level <= nestingDepth; level++) {
+            StringBuilder sb = parts[0].nested;
+            sb.append(indent(level)).append("level").append(level).append(":\n");
+            if (level == nestingDepth) {
+                sb.append(indent(level + 1))
+                        .append("value: ")
+                        .append(value(random, "depth " + nestingDepth))
+                        .append('\n');
+            }
+        }
+
+        List<String> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(parts[i].render(i));
+        }
+        return documents;
+    }
+
+    private String value(Random random, String value) {
+        if (secretDensity > 0 && random.nextDouble() < secretDensity) {
+            return "\"${SYNTHETIC_" + Integer.toHexString(value.hashCode()) + ":-" + value + "}\"";
+        }
+        return "\"" + value + "\"";
+    }
+
+    private static String indent(int level) {
+        return "  ".repeat(level);
+    }
+
+    private static int requirePositiveOrZero(int value, String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative, got " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Sections of one generated document.
+     */
+    private static final class Part {
+        private final StringBuilder nodes = new StringBuilder();
+        private final StringBuilder labelAtoms = new StringBuilder();
+        private final StringBuilder users = new StringBuilder();
+        private final StringBuilder unclassified = new StringBuilder();
+        private final StringBuilder nested = new StringBuilder();
+
+        private String render(int index) {
+            StringBuilder sb = new StringBuilder();
+            boolean first = index == 0;
+            if (first || nodes.length() > 0 || labelAtoms.length() > 0 || users.length() > 0) {
+                sb.append("jenkins:\n");
+                if (first) {
+                    sb.append("  systemMessage: \"Synthetic configuration\"\n");
+                    sb.append("  numExecutors: 0\n");
+                }
+                if (users.length() > 0) {
+                    sb.append("  securityRealm:\n");
+                    sb.append("    local:\n");
+                    if (first) {
+                        sb.append("      allowsSignup: false\n");
+                    }
+                    sb.append("      users:\n").append(users);
+                }
+                if (nodes.length() > 0) {
+                    sb.append("  nodes:\n").append(nodes);
+                }
+                if (labelAtoms.length() > 0) {
+                    sb.append("  labelAtoms:\n").append(labelAtoms);
+                }
+            }
+            if (unclassified.length() > 0) {
+                sb.append("unclassified:\n").append(unclassified);
+            }
+            if (nested.length() > 0) {
+                sb.append("x-synthetic-nesting:\n").append(nested);
+            }
+            if (sb.length() == 0) {
+                // keep every split file a valid, non-empty document
+                sb.append("x-synthetic-part-").append(index).append(": true\n");
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Checks the behaviour of {@link io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator} with classes in
+ * the unnamed package, which no package-level annotation applies to.
+ */
+public class UnnamedPackageConstructor {
+    private final String name;
+
+    @DataBoundConstructor
+    public UnnamedPackageConstructor(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -10,6 +10,7 @@ import io.jenkins.plugins.casc.misc.Envs;
 import io.jenkins.plugins.casc.misc.JenkinsConfiguredWithCodeRule;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.net.URL;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -17,11 +18,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import net.sf.json.JSONObject;
+import org.htmlunit.HttpMethod;
+import org.htmlunit.Page;
+import org.htmlunit.WebRequest;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.RestoreSystemProperties;
 import org.junit.rules.RuleChain;
+import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.LoggerRule;
 import org.kohsuke.stapler.RequestImpl;
 import org.kohsuke.stapler.ResponseImpl;
@@ -154,6 +160,28 @@ public class TokenReloadActionTest {
         assertConfigReloaded();
     }
 
+    @Test
+    public void asyncReloadReturnsAcceptedAndCanBeFollowed() throws Exception {
+        System.setProperty("casc.reload.token", "someSecretValue");
+
+        JenkinsRule.WebClient wc = j.createWebClient();
+        WebRequest post = new WebRequest(
+                new URL(j.getURL(), "reload-configuration-as-code?casc-reload-token=someSecretValue&async=true"),
+                HttpMethod.POST);
+        Page accepted = wc.getPage(post);
+        assertEquals(202, accepted.getWebResponse().getStatusCode());
+        long id = JSONObject.fromObject(accepted.getWebResponse().getContentAsString()).getLong("id");
+        String location = accepted.getWebResponse().getResponseHeaderValue("Location");
+        assertEquals(j.getURL() + "reload-configuration-as-code/status?id=" + id, location);
+
+        Page status = wc.getPage(location + "&casc-reload-token=someSecretValue&wait=30");
+        JSONObject reload = JSONObject.fromObject(status.getWebResponse().getContentAsString());
+        assertEquals(id, reload.getLong("id"));
+        assertEquals("SUCCEEDED", reload.getString("phase"));
+        assertTrue(reload.getLong("finishedAt") >= reload.getLong("startedAt"));
+        assertTrue(configWasReloaded());
+    }
+
     @Test
     public void displayName() {
         assertEquals("Reload Configuration as Code", tokenReloadAction.getDisplayName());
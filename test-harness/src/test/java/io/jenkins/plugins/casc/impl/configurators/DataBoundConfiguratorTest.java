@@ -26,6 +26,7 @@ import io.jenkins.plugins.casc.impl.configurators.nonnull.JakartaNonnullRequired
 import io.jenkins.plugins.casc.impl.configurators.nonnull.JakartaNullableParameterConstructor;
 import io.jenkins.plugins.casc.impl.configurators.nonnull.NonnullParameterConstructor;
 import io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage.PackageParametersAreNonnullByDefault;
+import io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage.PackageParametersMixedNullness;
 import io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage.PackageParametersNonNullCheckForNull;
 import io.jenkins.plugins.casc.misc.Util;
 import io.jenkins.plugins.casc.model.CNode;
@@ -35,7 +36,12 @@ import io.jenkins.plugins.casc.model.Sequence;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -234,6 +240,46 @@ class DataBoundConfiguratorTest {
         assertNull(configured.getSecret());
     }
 
+    @Test
+    void mixedNullnessParametersKeepTheirOutcome() throws Exception {
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        String expectedMessage =
+                "name is required to configure class io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage.PackageParametersMixedNullness";
+
+        // configurators of the same class share what is resolved from its constructor
+        for (int i = 0; i < 2; i++) {
+            Configurator<PackageParametersMixedNullness> configurator =
+                    new DataBoundConfigurator<>(PackageParametersMixedNullness.class);
+
+            Mapping config = new Mapping();
+            config.put("name", "mixed");
+            final PackageParametersMixedNullness configured =
+                    configurator.configure(config, new ConfigurationContext(registry));
+            assertTrue(configured.getStrings().isEmpty());
+            assertEquals("mixed", configured.getName());
+            assertNull(configured.getDescription());
+
+            ConfiguratorException exception = assertThrows(
+                    ConfiguratorException.class,
+                    () -> configurator.configure(new Mapping(), new ConfigurationContext(registry)));
+            assertThat(exception.getMessage(), is(expectedMessage));
+        }
+    }
+
+    @Test
+    void classInUnnamedPackage() throws Exception {
+        final Class<?> type = Class.forName("UnnamedPackageConstructor");
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+
+        Mapping config = new Mapping();
+        config.put("name", "unnamed");
+        final Object configured = registry.lookupOrFail(type).configure(config, new ConfigurationContext(registry));
+        assertEquals("unnamed", type.getMethod("getName").invoke(configured));
+
+        final Object empty = registry.lookupOrFail(type).configure(new Mapping(), new ConfigurationContext(registry));
+        assertNull(type.getMethod("getName").invoke(empty));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void exportWithSets() throws Exception {
@@ -358,6 +404,90 @@ class DataBoundConfiguratorTest {
         assertEquals("[{qix=0, bar=false, foo=}]", map.get("anArray").toString());
     }
 
+    @Test
+    void configureSequenceElementsConcurrently() throws Exception {
+        Sequence sequence = new Sequence();
+        for (int i = 0; i < 20; i++) {
+            Mapping element = new Mapping();
+            element.put("name", "element-" + i);
+            sequence.add(element);
+        }
+        Mapping config = new Mapping();
+        config.put("elements", sequence);
+
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        System.setProperty(ConfigurationContext.CASC_SEQUENCE_THREADS_PROPERTY, "4");
+        try {
+            final ConfigurationContext context = new ConfigurationContext(registry);
+            assertTrue(registry.lookupOrFail(Element.class).isSideEffectFree(context));
+            assertFalse(registry.lookupOrFail(Foo.class).isSideEffectFree(context));
+
+            final Elements configured = (Elements) registry.lookupOrFail(Elements.class).configure(config, context);
+            assertEquals(20, configured.getElements().size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals("element-" + i, configured.getElements().get(i).getName());
+            }
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_SEQUENCE_THREADS_PROPERTY);
+        }
+    }
+
+    @Test
+    void configureSequenceElementsOnSeveralThreads() throws Exception {
+        ConcurrentElement.started = new CountDownLatch(2);
+        ConcurrentElement.threads.clear();
+        Sequence sequence = new Sequence();
+        for (int i = 0; i < 4; i++) {
+            Mapping element = new Mapping();
+            element.put("name", "element-" + i);
+            sequence.add(element);
+        }
+        Mapping config = new Mapping();
+        config.put("elements", sequence);
+
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        System.setProperty(ConfigurationContext.CASC_SEQUENCE_THREADS_PROPERTY, "4");
+        try {
+            final ConfigurationContext context = new ConfigurationContext(registry);
+            // each element waits for another one to start, so this only completes if they run at the same time
+            final ConcurrentElements configured =
+                    (ConcurrentElements) registry.lookupOrFail(ConcurrentElements.class).configure(config, context);
+            assertEquals(4, configured.getElements().size());
+            assertTrue(ConcurrentElement.threads.size() > 1);
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_SEQUENCE_THREADS_PROPERTY);
+        }
+    }
+
+    @Test
+    void configureSequenceElementsWithNestedSideEffectSequentially() throws Exception {
+        Registered.threads.clear();
+        Sequence sequence = new Sequence();
+        for (int i = 0; i < 4; i++) {
+            Mapping nested = new Mapping();
+            nested.put("name", "nested-" + i);
+            Mapping holder = new Mapping();
+            holder.put("registered", nested);
+            sequence.add(holder);
+        }
+        Mapping config = new Mapping();
+        config.put("holders", sequence);
+
+        ConfiguratorRegistry registry = ConfiguratorRegistry.get();
+        System.setProperty(ConfigurationContext.CASC_SEQUENCE_THREADS_PROPERTY, "4");
+        try {
+            final ConfigurationContext context = new ConfigurationContext(registry);
+            assertFalse(registry.lookupOrFail(Holder.class).isSideEffectFree(context));
+            assertTrue(registry.lookupOrFail(Recursive.class).isSideEffectFree(context));
+
+            registry.lookupOrFail(Holders.class).configure(config, context);
+            assertEquals(Set.of(Thread.currentThread()), Set.copyOf(Registered.threads));
+            assertEquals(4, Registered.threads.size());
+        } finally {
+            System.clearProperty(ConfigurationContext.CASC_SEQUENCE_THREADS_PROPERTY);
+        }
+    }
+
     public static class Foo {
 
         final String foo;
@@ -475,4 +605,95 @@ class DataBoundConfiguratorTest {
             this.anArray = anArray;
         }
     }
+
+    public static class Elements {
+        private final List<Element> elements;
+
+        @DataBoundConstructor
+        public Elements(List<Element> elements) {
+            this.elements = elements;
+        }
+
+        public List<Element> getElements() {
+            return elements;
+        }
+    }
+
+    public static class Element {
+        private final String name;
+
+        @DataBoundConstructor
+        public Element(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class ConcurrentElements {
+        private final List<ConcurrentElement> elements;
+
+        @DataBoundConstructor
+        public ConcurrentElements(List<ConcurrentElement> elements) {
+            this.elements = elements;
+        }
+
+        public List<ConcurrentElement> getElements() {
+            return elements;
+        }
+    }
+
+    public static class ConcurrentElement {
+        static volatile CountDownLatch started;
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @DataBoundConstructor
+        public ConcurrentElement(String name) throws InterruptedException {
+            threads.add(Thread.currentThread());
+            started.countDown();
+            if (!started.await(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException(name + " was configured alone");
+            }
+        }
+    }
+
+    public static class Holders {
+        @DataBoundConstructor
+        public Holders(List<Holder> holders) {}
+    }
+
+    public static class Holder {
+        @DataBoundConstructor
+        public Holder(Registered registered) {}
+    }
+
+    public static class Registered {
+        static final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        @DataBoundConstructor
+        public Registered(String name) {}
+
+        @PostConstruct
+        public void register() {
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    public static class Recursive {
+        private Recursive next;
+
+        @DataBoundConstructor
+        public Recursive(String name) {}
+
+        @DataBoundSetter
+        public void setNext(Recursive next) {
+            this.next = next;
+        }
+
+        public Recursive getNext() {
+            return next;
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package io.jenkins.plugins.casc.impl.configurators.nonnull.nonnullparampackage;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.kohsuke.stapler.DataBoundConstructor;
+
+/**
+ * Checks the behaviour of {@link io.jenkins.plugins.casc.impl.configurators.DataBoundConfigurator} with parameters
+ * made required or optional in different ways, when using package-level
+ * {@link javax.annotation.ParametersAreNonnullByDefault} annotations.
+ */
+public class PackageParametersMixedNullness {
+    private final List<String> strings;
+    private final String name;
+    private final String description;
+
+    @DataBoundConstructor
+    public PackageParametersMixedNullness(@Nonnull List<String> strings, String name, @Nullable String description) {
+        this.strings = strings;
+        this.name = name;
+        this.description = description;
+    }
+
+    public List<String> getStrings() {
+        return strings;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,71 @@
+package io.jenkins.plugins.casc.misc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import hudson.model.Slave;
+import hudson.security.HudsonPrivateSecurityRealm;
+import io.jenkins.plugins.casc.ConfigurationAsCode;
+import java.nio.file.Path;
+import java.util.List;
+import jenkins.model.Jenkins;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+class LargeConfigurationGeneratorTest {
+
+    @TempDir
+    public Path tempFolder;
+
+    @Test
+    void generation_is_reproducible() {
+        LargeConfigurationGenerator generator =
+                new LargeConfigurationGenerator().nodes(50).secretDensity(0.5).seed(42);
+        String yaml = generator.generate();
+
+        assertEquals(yaml, new LargeConfigurationGenerator().nodes(50).secretDensity(0.5).seed(42).generate());
+        assertThat(yaml, containsString("${SYNTHETIC_"));
+        assertThat(new LargeConfigurationGenerator().nodes(50).generate(), not(containsString("${")));
+    }
+
+    @Test
+    void unsupported_unclassified_count_is_rejected() {
+        LargeConfigurationGenerator generator = new LargeConfigurationGenerator();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> generator.unclassified(1000));
+        assertEquals("unclassified must be at most 3, got 1000", e.getMessage());
+    }
+
+    @Test
+    @WithJenkins
+    void split_configuration_applies(JenkinsRule j) throws Exception {
+        List<Path> files = new LargeConfigurationGenerator()
+                .nodes(20)
+                .labelAtoms(4)
+                .users(3)
+                .unclassified(3)
+                .nestingDepth(5)
+                .secretDensity(0.3)
+                .files(6)
+                .writeTo(tempFolder);
+        assertThat(files, hasSize(6));
+
+        ConfigurationAsCode.get().configure(tempFolder.toString());
+
+        final Jenkins jenkins = Jenkins.get();
+        assertEquals("Synthetic configuration", jenkins.getSystemMessage());
+        assertThat(jenkins.getNodes(), hasSize(20));
+        assertEquals("/home/jenkins/agent-7", ((Slave) jenkins.getNode("agent-7")).getRemoteFS());
+        assertNotNull(jenkins.getLabelAtom("label-3"));
+        HudsonPrivateSecurityRealm realm =
+                assertInstanceOf(HudsonPrivateSecurityRealm.class, jenkins.getSecurityRealm());
+        assertThat(realm.getAllUsers(), hasSize(3));
+    }
+}